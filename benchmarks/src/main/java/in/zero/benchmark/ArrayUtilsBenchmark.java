@@ -0,0 +1,128 @@
+package in.zero.benchmark;
+
+import in.zero.array.ArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ArrayUtils} range operations at m-way tree node widths
+ * <p>
+ * {@code loop} runs the former element by element implementations kept below, {@code arraycopy} the current
+ * {@link ArrayUtils} ones. {@link #insertRemoveFront} is the worst case of {@code shiftAndInsertAt} and
+ * {@code rm}, {@link #splitNode} the copies done by {@code insertAndSplit}, {@link #insertRemoveIntFront}
+ * is the same insert/remove pair over an {@code int[]}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArrayUtilsBenchmark {
+
+    @Param({"loop", "arraycopy"})
+    public String impl;
+
+    @Param({"4", "8", "16", "32", "64", "128", "256", "512"})
+    public int width;
+
+    private Integer[] node;
+
+    private Integer[] left;
+
+    private Integer[] right;
+
+    private int[] intNode;
+
+    private Integer value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        node = BenchmarkData.presentKeys(width);
+        node[width - 1] = null;
+        left = new Integer[width];
+        right = new Integer[width];
+        intNode = new int[width];
+        for (int i = 0; i < width - 1; i++) {
+            intNode[i] = node[i];
+        }
+        value = node[0];
+    }
+
+    @Benchmark
+    public Integer insertRemoveFront() {
+        if ("loop".equals(impl)) {
+            loopUnshift(node, 0, value, width - 1);
+            return loopShift(node, 0, width - 1);
+        } else {
+            ArrayUtils.unshift(node, 0, value, width - 1);
+            return ArrayUtils.shift(node, 0, width - 1);
+        }
+    }
+
+    @Benchmark
+    public int insertRemoveIntFront() {
+        if ("loop".equals(impl)) {
+            for (int i = width - 1; i > 0; i--) {
+                intNode[i] = intNode[i - 1];
+            }
+            intNode[0] = value;
+            int removed = intNode[0];
+            for (int i = 0; i < width - 1; i++) {
+                intNode[i] = intNode[i + 1];
+            }
+            intNode[width - 1] = 0;
+            return removed;
+        } else {
+            ArrayUtils.unshift(intNode, 0, value, width - 1);
+            return ArrayUtils.shift(intNode, 0, width - 1);
+        }
+    }
+
+    @Benchmark
+    public Integer[] splitNode() {
+        int middle = width / 2;
+        if ("loop".equals(impl)) {
+            loopCopy(node, 0, middle, left, 0, width);
+            loopCopy(node, middle, width, right, 0, width);
+        } else {
+            ArrayUtils.copyRangeToAnotherArray(node, 0, middle, left, 0, width);
+            ArrayUtils.copyRangeToAnotherArray(node, middle, width, right, 0, width);
+        }
+        return right;
+    }
+
+    private static <T> T loopShift(final T[] arr, final int removalIndex, final int lastIndex) {
+        T returnData = arr[removalIndex];
+        for (int i = removalIndex; i < lastIndex; i++) {
+            arr[i] = arr[i + 1];
+        }
+        arr[lastIndex] = null;
+        return returnData;
+    }
+
+    private static <T> void loopUnshift(final T[] arr, final int insertIndex, final T value, final int lastIndex) {
+        for (int i = lastIndex; i > insertIndex; i--) {
+            arr[i] = arr[i - 1];
+        }
+        arr[insertIndex] = value;
+    }
+
+    private static <T> void loopCopy(final T[] copyFrom, final int cfStart, final int cfEnd, final T[] copyTo, final int ctStart, final int ctEnd) {
+        for (int i = cfStart, j = ctStart; i < cfEnd && j < ctEnd; j++, i++) {
+            copyTo[j] = copyFrom[i];
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package in.zero.benchmark;
+
+import in.zero.array.ArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorted range searches of {@link ArrayUtils} over {@link Integer} node keys, the way m-way tree nodes get searched
+ * <p>
+ * Half of the looked up keys are present, the other half fall in between them. The width where {@code binary} starts
+ * beating {@code linear} is the crossover {@link ArrayUtils#LINEAR_SEARCH_THRESHOLD} should be set to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArrayUtilsSearchBenchmark {
+
+    private static final int KEYS = 1 << 12;
+
+    @Param({"linear", "binary", "branchless", "exponential"})
+    public String impl;
+
+    @Param({"4", "8", "16", "32", "64", "128", "256", "512"})
+    public int width;
+
+    private Integer[] values;
+
+    private Integer[] keys;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] present = BenchmarkData.presentKeys(width);
+        Integer[] absent = BenchmarkData.absentKeys(KEYS);
+        values = new Integer[width];
+        for (int i = 0; i < width; i++) {
+            values[i] = present[i];
+        }
+        Arrays.sort(values);
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i % 2 == 0 ? values[i % width] : (Integer) (absent[i] % (2 * width));
+        }
+    }
+
+    private Integer next() {
+        Integer key = keys[cursor];
+        cursor = (cursor + 1) & (KEYS - 1);
+        return key;
+    }
+
+    @Benchmark
+    public int search() {
+        Integer key = next();
+        switch (impl) {
+            case "linear":
+                return ArrayUtils.linearSearch(values, 0, width, key, false);
+            case "binary":
+                return ArrayUtils.binarySearch(values, 0, width, key, false);
+            case "branchless":
+                return ArrayUtils.branchlessBinarySearch(values, 0, width, key, false);
+            default:
+                return ArrayUtils.exponentialSearch(values, 0, width, key, false);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package in.zero.benchmark;
+
+import java.util.Random;
+
+/**
+ * Reproducible input data shared by all the benchmarks
+ * <p>
+ * Every generator is driven by a fixed seed so two runs (or two machines) measure exactly the same key
+ * sequence and the same graph shape.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 0x5EEDL;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Even keys 0, 2, 4 ... 2 * (size - 1) in a shuffled order
+     *
+     * @param size number of keys
+     * @return shuffled keys
+     */
+    public static Integer[] presentKeys(int size) {
+        return shuffled(size, 0);
+    }
+
+    /**
+     * Odd keys 1, 3, 5 ... 2 * size - 1 in a shuffled order, none of them is part of {@link #presentKeys(int)}
+     *
+     * @param size number of keys
+     * @return shuffled keys
+     */
+    public static Integer[] absentKeys(int size) {
+        return shuffled(size, 1);
+    }
+
+    /**
+     * Random edge list over vertices 0 ... vertices - 1, a ring keeps the graph connected and the remaining
+     * edges are picked uniformly
+     *
+     * @param vertices number of vertices
+     * @param degree   average degree of a vertex
+     * @return edges as pairs, {@code edges[i][0]} - {@code edges[i][1]}
+     */
+    public static int[][] randomEdges(int vertices, int degree) {
+        Random random = new Random(SEED);
+        int extra = Math.max(0, vertices * degree / 2 - vertices);
+        int[][] edges = new int[vertices + extra][];
+        for (int i = 0; i < vertices; i++) {
+            edges[i] = new int[]{i, (i + 1) % vertices};
+        }
+        for (int i = vertices; i < edges.length; i++) {
+            edges[i] = new int[]{random.nextInt(vertices), random.nextInt(vertices)};
+        }
+        return edges;
+    }
+
+    private static Integer[] shuffled(int size, int offset) {
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = 2 * i + offset;
+        }
+        Random random = new Random(SEED + offset);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer temp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = temp;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,42 @@
+package in.zero.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar
+ * <p>
+ * Accepts every standard JMH command line option, and additionally always attaches the GC profiler so each
+ * run reports allocation numbers (gc.alloc.rate.norm) next to throughput and latency. Results are written
+ * as JSON to jmh-result.json unless another result format/file is given on the command line.
+ * <p>
+ * Usage:
+ * <pre>
+ *     mvn -f pom.xml install
+ *     mvn -f benchmarks/pom.xml package
+ *     java -jar benchmarks/target/benchmarks.jar                           # everything
+ *     java -jar benchmarks/target/benchmarks.jar SearchTree -p size=1000   # a subset
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(cmd)
+                .addProfiler(GCProfiler.class);
+        if (!cmd.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+package in.zero.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Array backed and linked complete {@code BinaryTree} implementations
+ * <p>
+ * {@link #build} adds {@code size} values to an empty tree, the array one pre-sized. Its {@code gc.alloc.rate.norm}
+ * divided by {@code size} is the memory footprint per value: a single reference slot for the array tree against
+ * a node object with three links for the linked one. The traversals walk trees built once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BinaryTreeBenchmark {
+
+    @Param({"array", "link"})
+    public String impl;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+
+    private in.zero.array.tree.BinaryTree<Integer> arrayTree;
+
+    private in.zero.link.tree.BinaryTree<Integer> linkTree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.presentKeys(size);
+        arrayTree = new in.zero.array.tree.BinaryTree<>(size);
+        linkTree = new in.zero.link.tree.BinaryTree<>();
+        for (Integer value : values) {
+            arrayTree.add(value);
+            linkTree.add(value);
+        }
+    }
+
+    @Benchmark
+    public Object build() {
+        if ("array".equals(impl)) {
+            in.zero.array.tree.BinaryTree<Integer> tree = new in.zero.array.tree.BinaryTree<>(size);
+            for (Integer value : values) {
+                tree.add(value);
+            }
+            return tree;
+        } else {
+            in.zero.link.tree.BinaryTree<Integer> tree = new in.zero.link.tree.BinaryTree<>();
+            for (Integer value : values) {
+                tree.add(value);
+            }
+            return tree;
+        }
+    }
+
+    @Benchmark
+    public void inOrder(Blackhole bh) {
+        drain("array".equals(impl) ? arrayTree.inOrderIterator() : linkTree.inOrderIterator(), bh);
+    }
+
+    @Benchmark
+    public void preOrder(Blackhole bh) {
+        drain("array".equals(impl) ? arrayTree.preOrderIterator() : linkTree.preOrderIterator(), bh);
+    }
+
+    @Benchmark
+    public void levelOrder(Blackhole bh) {
+        drain("array".equals(impl) ? arrayTree.levelOrderIterator() : linkTree.levelOrderIterator(), bh);
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return "array".equals(impl)
+                ? arrayTree.stream().mapToLong(Integer::longValue).sum()
+                : linkTree.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    private static void drain(Iterator<Integer> iterator, Blackhole bh) {
+        while (iterator.hasNext()) {
+            bh.consume(iterator.next());
+        }
+    }
+}
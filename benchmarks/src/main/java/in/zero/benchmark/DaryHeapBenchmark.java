@@ -0,0 +1,101 @@
+package in.zero.benchmark;
+
+import in.zero.array.DaryHeap;
+import in.zero.link.tree.Heap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DaryHeap} of arity 2/4/8 against the linked {@link Heap}
+ * <p>
+ * {@link #pushPop} pushes one key and pops the top, {@link #burst} pushes {@value #BURST} keys and pops as many
+ * back, Both keep the heap size stable across invocations. The 100M runs need roughly 20 GB of heap for the
+ * linked variant, hence the larger -Xmx.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms24g", "-Xmx24g"})
+public class DaryHeapBenchmark {
+
+    private static final int BURST = 16;
+
+    @Param({"link", "2", "4", "8"})
+    public String heap;
+
+    @Param({"1000000", "100000000"})
+    public int size;
+
+    private Integer[] absent;
+
+    private Heap<Integer> linkHeap;
+
+    private DaryHeap<Integer> daryHeap;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] present = BenchmarkData.presentKeys(size);
+        absent = BenchmarkData.absentKeys(size);
+        if ("link".equals(heap)) {
+            linkHeap = new Heap<Integer>().addAll(present);
+        } else {
+            daryHeap = new DaryHeap<Integer>(Integer.parseInt(heap), Heap.Type.MIN, size + BURST).addAll(present);
+        }
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        Integer key = absent[next()];
+        if (linkHeap != null) {
+            linkHeap.add(key);
+            return linkHeap.remove();
+        } else {
+            daryHeap.add(key);
+            return daryHeap.remove();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void burst(Blackhole bh) {
+        if (linkHeap != null) {
+            for (int i = 0; i < BURST; i++) {
+                linkHeap.add(absent[next()]);
+            }
+            for (int i = 0; i < BURST; i++) {
+                bh.consume(linkHeap.remove());
+            }
+        } else {
+            for (int i = 0; i < BURST; i++) {
+                daryHeap.add(absent[next()]);
+            }
+            for (int i = 0; i < BURST; i++) {
+                bh.consume(daryHeap.remove());
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package in.zero.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Array and linked {@code Heap} implementations, with {@link PriorityQueue} as the baseline
+ * <p>
+ * {@link #pushPop} pushes a key and pops the top on a heap which already holds {@code size} elements,
+ * {@link #fillAndDrain} pushes {@code size} elements into an empty heap and pops all of them back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HeapBenchmark {
+
+    @Param({"array", "link", "jdk"})
+    public String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Integer[] present;
+
+    private Integer[] absent;
+
+    private in.zero.array.Heap<Integer> arrayHeap;
+
+    private in.zero.link.tree.Heap<Integer> linkHeap;
+
+    private PriorityQueue<Integer> jdkHeap;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        present = BenchmarkData.presentKeys(size);
+        absent = BenchmarkData.absentKeys(size);
+        if ("array".equals(impl)) {
+            arrayHeap = new in.zero.array.Heap<>();
+            for (Integer key : present) {
+                arrayHeap.add(key);
+            }
+        } else if ("link".equals(impl)) {
+            linkHeap = new in.zero.link.tree.Heap<>();
+            for (Integer key : present) {
+                linkHeap.add(key);
+            }
+        } else {
+            jdkHeap = new PriorityQueue<>();
+            for (Integer key : present) {
+                jdkHeap.add(key);
+            }
+        }
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        Integer key = absent[next()];
+        if ("array".equals(impl)) {
+            arrayHeap.add(key);
+            return arrayHeap.remove();
+        } else if ("link".equals(impl)) {
+            linkHeap.add(key);
+            return linkHeap.remove();
+        } else {
+            jdkHeap.add(key);
+            return jdkHeap.poll();
+        }
+    }
+
+    @Benchmark
+    public void fillAndDrain(Blackhole bh) {
+        if ("array".equals(impl)) {
+            in.zero.array.Heap<Integer> heap = new in.zero.array.Heap<>();
+            for (Integer key : present) {
+                heap.add(key);
+            }
+            while (!heap.isEmpty()) {
+                bh.consume(heap.remove());
+            }
+        } else if ("link".equals(impl)) {
+            in.zero.link.tree.Heap<Integer> heap = new in.zero.link.tree.Heap<>();
+            for (Integer key : present) {
+                heap.add(key);
+            }
+            while (heap.size() > 0) {
+                bh.consume(heap.remove());
+            }
+        } else {
+            PriorityQueue<Integer> heap = new PriorityQueue<>();
+            for (Integer key : present) {
+                heap.add(key);
+            }
+            while (!heap.isEmpty()) {
+                bh.consume(heap.poll());
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package in.zero.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilding a whole heap from a batch of values, Bottom-up construction ({@code addAll} / {@code of}) against
+ * inserting the values one at a time, with {@link PriorityQueue#PriorityQueue(java.util.Collection)} as the
+ * baseline
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class HeapBuildBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;
+
+    private List<Integer> valueList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.presentKeys(size);
+        valueList = Arrays.asList(values);
+    }
+
+    @Benchmark
+    public in.zero.link.tree.Heap<Integer> linkBulk() {
+        return new in.zero.link.tree.Heap<Integer>().addAll(values);
+    }
+
+    @Benchmark
+    public in.zero.link.tree.Heap<Integer> linkOneByOne() {
+        in.zero.link.tree.Heap<Integer> heap = new in.zero.link.tree.Heap<>();
+        for (Integer value : values) {
+            heap.add(value);
+        }
+        return heap;
+    }
+
+    @Benchmark
+    public in.zero.array.Heap<Integer> arrayBulk() {
+        return in.zero.array.Heap.of(valueList);
+    }
+
+    @Benchmark
+    public in.zero.array.Heap<Integer> arrayOneByOne() {
+        in.zero.array.Heap<Integer> heap = new in.zero.array.Heap<>();
+        for (Integer value : values) {
+            heap.add(value);
+        }
+        return heap;
+    }
+
+    @Benchmark
+    public PriorityQueue<Integer> jdkBulk() {
+        return new PriorityQueue<>(valueList);
+    }
+}
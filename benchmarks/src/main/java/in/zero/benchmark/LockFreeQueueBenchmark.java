@@ -0,0 +1,136 @@
+package in.zero.benchmark;
+
+import in.zero.link.LockFreeQueue;
+import in.zero.link.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LockFreeQueue} shared by all the benchmark threads, against the linked {@link Queue} behind a lock
+ * and {@link ConcurrentLinkedQueue}
+ * <p>
+ * Every thread enqueues and dequeues, so each thread is both a producer and a consumer and the queue stays
+ * around its initial size. Scale the thread count with the {@code -t} option, one run per count:
+ * <pre>
+ * for t in 1 2 4 8 16 32 64; do java -jar benchmarks.jar LockFreeQueueBenchmark -t $t; done
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LockFreeQueueBenchmark {
+
+    private static final int BATCH = 8;
+
+    private static final Integer VALUE = 42;
+
+    @Param({"lockfree", "synchronized", "jdk"})
+    public String impl;
+
+    @Param({"1000"})
+    public int prefill;
+
+    private LockFreeQueue<Integer> lockFree;
+
+    private Queue<Integer> locked;
+
+    private ConcurrentLinkedQueue<Integer> jdk;
+
+    private Integer[] batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lockFree = new LockFreeQueue<>();
+        locked = new Queue<>();
+        jdk = new ConcurrentLinkedQueue<>();
+        batch = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = VALUE;
+        }
+        for (int i = 0; i < prefill; i++) {
+            lockFree.enqueue(VALUE);
+            locked.enqueue(VALUE);
+            jdk.add(VALUE);
+        }
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        if ("lockfree".equals(impl)) {
+            lockFree.enqueue(VALUE);
+            return lockFree.poll();
+        } else if ("synchronized".equals(impl)) {
+            synchronized (locked) {
+                locked.enqueue(VALUE);
+                return locked.dequeue();
+            }
+        } else {
+            jdk.add(VALUE);
+            return jdk.poll();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void batch(Blackhole bh) {
+        if ("lockfree".equals(impl)) {
+            lockFree.enqueueAll(batch);
+            for (int i = 0; i < BATCH; i++) {
+                bh.consume(lockFree.poll());
+            }
+        } else if ("synchronized".equals(impl)) {
+            synchronized (locked) {
+                locked.enqueueAll(batch);
+            }
+            for (int i = 0; i < BATCH; i++) {
+                synchronized (locked) {
+                    bh.consume(locked.dequeue());
+                }
+            }
+        } else {
+            for (Integer value : batch) {
+                jdk.add(value);
+            }
+            for (int i = 0; i < BATCH; i++) {
+                bh.consume(jdk.poll());
+            }
+        }
+    }
+
+    @Benchmark
+    public int getCount() {
+        if ("lockfree".equals(impl)) {
+            lockFree.enqueue(VALUE);
+            lockFree.poll();
+            return lockFree.getCount();
+        } else if ("synchronized".equals(impl)) {
+            synchronized (locked) {
+                locked.enqueue(VALUE);
+                locked.dequeue();
+                return locked.getCount();
+            }
+        } else {
+            jdk.add(VALUE);
+            jdk.poll();
+            return jdk.size();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package in.zero.benchmark;
+
+import in.zero.link.LockFreeStack;
+import in.zero.link.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LockFreeStack} with and without elimination, against the linked {@link Stack} behind a lock
+ * <p>
+ * Every thread pushes and pops, the way workers share a free-list of buffers. Scale the thread count with the
+ * {@code -t} option, one run per count:
+ * <pre>
+ * for t in 1 2 4 8 16 32 64; do java -jar benchmarks.jar LockFreeStackBenchmark -t $t; done
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LockFreeStackBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    @Param({"elimination", "treiber", "synchronized"})
+    public String impl;
+
+    @Param({"1000"})
+    public int prefill;
+
+    private LockFreeStack<Integer> lockFree;
+
+    private Stack<Integer> locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lockFree = "treiber".equals(impl) ? new LockFreeStack<>(0) : new LockFreeStack<>();
+        locked = new Stack<>();
+        for (int i = 0; i < prefill; i++) {
+            lockFree.push(VALUE);
+            locked.push(VALUE);
+        }
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        if ("synchronized".equals(impl)) {
+            synchronized (locked) {
+                locked.push(VALUE);
+            }
+            synchronized (locked) {
+                return locked.pop();
+            }
+        } else {
+            lockFree.push(VALUE);
+            return lockFree.tryPop();
+        }
+    }
+}
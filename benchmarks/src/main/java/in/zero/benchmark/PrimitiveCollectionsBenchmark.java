@@ -0,0 +1,146 @@
+package in.zero.benchmark;
+
+import in.zero.array.ChunkedStack;
+import in.zero.array.IntQueue;
+import in.zero.array.IntStack;
+import in.zero.array.LongQueue;
+import in.zero.array.LongStack;
+import in.zero.array.RingBufferQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primitive stacks / queues against the generic ones holding boxed values
+ * <p>
+ * Every invocation fills a fresh collection with {@code size} computed values and drains it again, the
+ * values are outside the {@link Integer} cache so the generic versions pay one box per value. Look at
+ * {@code gc.alloc.rate.norm} of the GC profiler (always enabled through {@link BenchmarkRunner}) for the
+ * bytes allocated per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PrimitiveCollectionsBenchmark {
+
+    private static final int OFFSET = 1 << 20;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Benchmark
+    public long intStack() {
+        IntStack stack = new IntStack();
+        for (int i = 0; i < size; i++) {
+            stack.push(OFFSET + i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long boxedIntStack() {
+        ChunkedStack<Integer> stack = new ChunkedStack<>();
+        for (int i = 0; i < size; i++) {
+            stack.push(OFFSET + i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longStack() {
+        LongStack stack = new LongStack();
+        for (int i = 0; i < size; i++) {
+            stack.push(OFFSET + i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long boxedLongStack() {
+        ChunkedStack<Long> stack = new ChunkedStack<>();
+        for (int i = 0; i < size; i++) {
+            stack.push((long) OFFSET + i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intQueue() {
+        IntQueue queue = new IntQueue();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(OFFSET + i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long boxedIntQueue() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(OFFSET + i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longQueue() {
+        LongQueue queue = new LongQueue();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(OFFSET + i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long boxedLongQueue() {
+        RingBufferQueue<Long> queue = new RingBufferQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue((long) OFFSET + i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,134 @@
+package in.zero.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Array, linked and unrolled linked {@code Queue} implementations
+ * <p>
+ * {@link #fillAndDrain} enqueues {@code size} elements and dequeues all of them back, {@link #enqueueDequeue} measures a
+ * single enqueue/dequeue pair on a queue which already holds {@code size} elements. The {@code pooled} linked queue
+ * recycles up to {@code size} dequeued nodes and is kept across {@link #fillAndDrain} invocations, run with
+ * {@code -prof gc} to compare its allocation rate against {@code link}. Under {@code -prof gc} the
+ * {@code gc.alloc.rate.norm} of {@link #fillAndDrain} divided by {@code size} is the bytes per element of each
+ * implementation, {@code unrolled} stores 64 values per segment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class QueueBenchmark {
+
+    @Param({"array", "link", "pooled", "unrolled"})
+    public String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;
+
+    private in.zero.array.Queue<Integer> arrayQueue;
+
+    private in.zero.link.Queue<Integer> linkQueue;
+
+    private in.zero.link.Queue<Integer> pooledQueue;
+
+    private in.zero.link.UnrolledQueue<Integer> unrolledQueue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.presentKeys(size);
+        arrayQueue = new in.zero.array.Queue<>(size + 1);
+        linkQueue = "pooled".equals(impl) ? in.zero.link.Queue.pooled(size) : new in.zero.link.Queue<>();
+        pooledQueue = in.zero.link.Queue.pooled(size);
+        unrolledQueue = new in.zero.link.UnrolledQueue<>();
+        for (int i = 0; i < size; i++) {
+            arrayQueue.enqueue(values[i]);
+            linkQueue.enqueue(values[i]);
+            unrolledQueue.enqueue(values[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        if ("array".equals(impl)) {
+            arrayQueue.enqueue(values[0]);
+            return arrayQueue.dequeue();
+        } else if ("unrolled".equals(impl)) {
+            unrolledQueue.enqueue(values[0]);
+            return unrolledQueue.dequeue();
+        } else {
+            linkQueue.enqueue(values[0]);
+            return linkQueue.dequeue();
+        }
+    }
+
+    @Benchmark
+    public void fillAndDrain(Blackhole bh) {
+        if ("array".equals(impl)) {
+            in.zero.array.Queue<Integer> queue = new in.zero.array.Queue<>(size);
+            for (Integer value : values) {
+                queue.enqueue(value);
+            }
+            while (!queue.isEmpty()) {
+                bh.consume(queue.dequeue());
+            }
+        } else if ("unrolled".equals(impl)) {
+            in.zero.link.UnrolledQueue<Integer> queue = new in.zero.link.UnrolledQueue<>();
+            for (Integer value : values) {
+                queue.enqueue(value);
+            }
+            while (!queue.isEmpty()) {
+                bh.consume(queue.dequeue());
+            }
+        } else {
+            in.zero.link.Queue<Integer> queue = "pooled".equals(impl) ? pooledQueue : new in.zero.link.Queue<>();
+            for (Integer value : values) {
+                queue.enqueue(value);
+            }
+            while (!queue.isEmpty()) {
+                bh.consume(queue.dequeue());
+            }
+        }
+    }
+
+    /**
+     * Bulk counterpart of {@link #fillAndDrain}, the unrolled queue copies whole segments in and drains in batches
+     * of 64 values, the linked ones go through {@code enqueueAll} and single dequeues
+     */
+    @Benchmark
+    public void bulkFillAndDrain(Blackhole bh) {
+        if ("array".equals(impl)) {
+            fillAndDrain(bh);
+        } else if ("unrolled".equals(impl)) {
+            Integer[] batch = new Integer[64];
+            in.zero.link.UnrolledQueue<Integer> queue = new in.zero.link.UnrolledQueue<>();
+            queue.enqueueAll(values);
+            int count;
+            while ((count = queue.dequeueInto(batch)) > 0) {
+                bh.consume(batch[count - 1]);
+            }
+        } else {
+            in.zero.link.Queue<Integer> queue = "pooled".equals(impl) ? pooledQueue : new in.zero.link.Queue<>();
+            queue.enqueueAll(values);
+            while (!queue.isEmpty()) {
+                bh.consume(queue.dequeue());
+            }
+        }
+    }
+}
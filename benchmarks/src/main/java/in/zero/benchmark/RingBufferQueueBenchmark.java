@@ -0,0 +1,108 @@
+package in.zero.benchmark;
+
+import in.zero.array.RingBufferQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RingBufferQueue} against {@link ArrayDeque}
+ * <p>
+ * {@link #enqueueDequeue} works on a queue which already holds {@code size} elements, {@link #fillAndDrain}
+ * grows an empty queue to {@code size} elements one by one and drains it, {@link #bulk} does the same with
+ * {@code enqueueAll} / {@code drainTo} (and {@code addAll} / {@code poll} for the deque).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RingBufferQueueBenchmark {
+
+    @Param({"ring", "deque"})
+    public String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;
+
+    private Integer[] drained;
+
+    private RingBufferQueue<Integer> ring;
+
+    private ArrayDeque<Integer> deque;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.presentKeys(size);
+        drained = new Integer[size];
+        ring = new RingBufferQueue<>();
+        deque = new ArrayDeque<>();
+        ring.enqueueAll(values);
+        deque.addAll(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        if ("ring".equals(impl)) {
+            ring.enqueue(values[0]);
+            return ring.dequeue();
+        } else {
+            deque.add(values[0]);
+            return deque.poll();
+        }
+    }
+
+    @Benchmark
+    public void fillAndDrain(Blackhole bh) {
+        if ("ring".equals(impl)) {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>();
+            for (Integer value : values) {
+                queue.enqueue(value);
+            }
+            while (!queue.isEmpty()) {
+                bh.consume(queue.dequeue());
+            }
+        } else {
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (Integer value : values) {
+                queue.add(value);
+            }
+            while (!queue.isEmpty()) {
+                bh.consume(queue.poll());
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer[] bulk() {
+        if ("ring".equals(impl)) {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>();
+            queue.enqueueAll(values);
+            queue.drainTo(drained);
+        } else {
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.addAll(Arrays.asList(values));
+            for (int i = 0; i < size; i++) {
+                drained[i] = queue.poll();
+            }
+        }
+        return drained;
+    }
+}
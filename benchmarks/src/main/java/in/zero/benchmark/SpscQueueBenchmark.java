@@ -0,0 +1,169 @@
+package in.zero.benchmark;
+
+import in.zero.array.SpscQueue;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpscQueue} between one producer and one consumer thread
+ * <p>
+ * {@code transfer} measures throughput: both sides run flat out and never wait, the aux counters report how
+ * many values actually went through ({@code offered} / {@code polled}) next to the calls which found the queue
+ * full / empty. {@code roundTrip} measures hand-off latency: {@code ping} sends a value and waits for
+ * {@code pong} to send it back over a second queue, so the sampled time of {@code ping} is one round trip
+ * (look at the percentiles of the SampleTime run).
+ * <p>
+ * JMH can't pin threads, run the benchmark under {@code taskset -c <core>,<core>} (two physical cores of the
+ * same socket) to keep the scheduler from moving them.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SpscQueueBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    @State(Scope.Group)
+    public static class Queues {
+
+        @Param({"1024", "65536"})
+        public int capacity;
+
+        @Param({"1", "32"})
+        public int batch;
+
+        SpscQueue<Integer> queue;
+
+        SpscQueue<Integer> reply;
+
+        Integer[] values;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            queue = new SpscQueue<>(capacity);
+            reply = new SpscQueue<>(capacity);
+            values = new Integer[batch];
+            Arrays.fill(values, VALUE);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class OfferCounters {
+
+        public long offered;
+
+        public long offerFailed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            offerFailed = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PollCounters {
+
+        public long polled;
+
+        public long pollFailed;
+
+        Integer[] drained;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            polled = 0;
+            pollFailed = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public void offer(Queues queues, OfferCounters counters) {
+        int offered = queues.batch == 1
+                ? (queues.queue.offer(VALUE) ? 1 : 0)
+                : queues.queue.offerAll(queues.values, 0, queues.batch);
+        if (offered > 0) {
+            counters.offered += offered;
+        } else {
+            counters.offerFailed++;
+        }
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public void poll(Queues queues, PollCounters counters) {
+        int polled;
+        if (queues.batch == 1) {
+            polled = queues.queue.poll() != null ? 1 : 0;
+        } else {
+            if (counters.drained == null) {
+                counters.drained = new Integer[queues.batch];
+            }
+            polled = queues.queue.drainTo(counters.drained);
+        }
+        if (polled > 0) {
+            counters.polled += polled;
+        } else {
+            counters.pollFailed++;
+        }
+    }
+
+    @Benchmark
+    @Group("roundTrip")
+    @GroupThreads(1)
+    public Integer ping(Queues queues, Control control) {
+        while (!queues.queue.offer(VALUE)) {
+            if (control.stopMeasurement) {
+                return null;
+            }
+        }
+        Integer value;
+        while ((value = queues.reply.poll()) == null) {
+            if (control.stopMeasurement) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    @Benchmark
+    @Group("roundTrip")
+    @GroupThreads(1)
+    public void pong(Queues queues, Control control) {
+        Integer value;
+        while ((value = queues.queue.poll()) == null) {
+            if (control.stopMeasurement) {
+                return;
+            }
+        }
+        while (!queues.reply.offer(value)) {
+            if (control.stopMeasurement) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package in.zero.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Array, chunked and linked {@code Stack} implementations
+ * <p>
+ * {@link #fillAndDrain} pushes {@code size} elements and pops all of them back, {@link #pushPop} measures a
+ * single push/pop pair on a stack which already holds {@code size} elements. The fixed capacity array stack
+ * is pre-sized to {@code size}, the chunked one grows on its own. The {@code pooled} linked stack recycles up to
+ * {@code size} popped nodes and is kept across {@link #fillAndDrain} invocations, run with {@code -prof gc} to
+ * compare its allocation rate against {@code link}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StackBenchmark {
+
+    @Param({"array", "chunked", "link", "pooled"})
+    public String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;
+
+    private in.zero.array.Stack<Integer> arrayStack;
+
+    private in.zero.array.ChunkedStack<Integer> chunkedStack;
+
+    private in.zero.link.Stack<Integer> linkStack;
+
+    private in.zero.link.Stack<Integer> pooledStack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.presentKeys(size);
+        arrayStack = new in.zero.array.Stack<>(size + 1);
+        chunkedStack = new in.zero.array.ChunkedStack<>();
+        linkStack = "pooled".equals(impl) ? in.zero.link.Stack.pooled(size) : new in.zero.link.Stack<>();
+        pooledStack = in.zero.link.Stack.pooled(size);
+        for (int i = 0; i < size; i++) {
+            arrayStack.push(values[i]);
+            chunkedStack.push(values[i]);
+            linkStack.push(values[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        if ("array".equals(impl)) {
+            arrayStack.push(values[0]);
+            return arrayStack.pop();
+        } else if ("chunked".equals(impl)) {
+            chunkedStack.push(values[0]);
+            return chunkedStack.pop();
+        } else {
+            linkStack.push(values[0]);
+            return linkStack.pop();
+        }
+    }
+
+    @Benchmark
+    public void fillAndDrain(Blackhole bh) {
+        if ("array".equals(impl)) {
+            in.zero.array.Stack<Integer> stack = new in.zero.array.Stack<>(size);
+            for (Integer value : values) {
+                stack.push(value);
+            }
+            while (!stack.isEmpty()) {
+                bh.consume(stack.pop());
+            }
+        } else if ("chunked".equals(impl)) {
+            in.zero.array.ChunkedStack<Integer> stack = new in.zero.array.ChunkedStack<>();
+            for (Integer value : values) {
+                stack.push(value);
+            }
+            while (!stack.isEmpty()) {
+                bh.consume(stack.pop());
+            }
+        } else {
+            in.zero.link.Stack<Integer> stack = "pooled".equals(impl) ? pooledStack : new in.zero.link.Stack<>();
+            for (Integer value : values) {
+                stack.push(value);
+            }
+            while (!stack.isEmpty()) {
+                bh.consume(stack.pop());
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package in.zero.benchmark.link.graph;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.graph.CsrGraph;
+import in.zero.link.graph.UndirectedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mutable {@link UndirectedGraph} against its {@link CsrGraph} snapshot
+ * <p>
+ * Same random connected graph as {@link UndirectedGraphBenchmark}. Under {@code -prof gc} the
+ * {@code gc.alloc.rate.norm} of {@link #build} is the footprint of the graph, the mutable one built edge by edge
+ * or the snapshot taken from it, divided by {@code size * degree / 2} it gives the bytes per edge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class CsrGraphBenchmark {
+
+    @Param({"mutable", "csr"})
+    public String impl;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"4"})
+    public int degree;
+
+    private int[][] edges;
+
+    private UndirectedGraph<Integer> graph;
+
+    private CsrGraph<Integer> csr;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        edges = BenchmarkData.randomEdges(size, degree);
+        graph = new UndirectedGraph<>();
+        for (int[] edge : edges) {
+            graph.add(edge[0], edge[1]);
+        }
+        csr = graph.toCsr();
+    }
+
+    @Benchmark
+    public Object build() {
+        if ("csr".equals(impl)) {
+            return graph.toCsr();
+        } else {
+            UndirectedGraph<Integer> built = new UndirectedGraph<>();
+            for (int[] edge : edges) {
+                built.add(edge[0], edge[1]);
+            }
+            return built;
+        }
+    }
+
+    @Benchmark
+    public List<Integer> depthFirstTraversal() {
+        return "csr".equals(impl) ? csr.depthFirstTraversal(0) : graph.depthFirstTraversal(0);
+    }
+
+    @Benchmark
+    public List<Integer> breadthFirstTraversal() {
+        return "csr".equals(impl) ? csr.breadthFirstTraversal(0) : graph.breadthFirstTraversal(0);
+    }
+
+    /**
+     * Shortest paths between vertex 0 and its opposite on the ring
+     */
+    @Benchmark
+    public List<List<Integer>> shortestPath() {
+        return "csr".equals(impl) ? csr.shortestPath(0, size / 2) : graph.shortestPath(0, size / 2);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> getNeighbours() {
+        int vertex = cursor;
+        cursor = vertex + 1 == size ? 0 : vertex + 1;
+        return "csr".equals(impl) ? csr.getNeighbours(vertex) : graph.getNeighbours(vertex);
+    }
+}
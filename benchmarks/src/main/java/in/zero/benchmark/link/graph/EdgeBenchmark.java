@@ -0,0 +1,66 @@
+package in.zero.benchmark.link.graph;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.graph.UndirectedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UndirectedGraph#add} throughput, which is bound by the hashing of its edges
+ * <p>
+ * Builds a graph of {@code edges} edges, boxing the vertices on every add like callers do: {@code random} is a
+ * random connected graph with an average degree of 4, {@code hub} joins vertex 0 to every other vertex so all
+ * the edges land in a single adjacency set. {@code edges / score} is the add throughput and under
+ * {@code -prof gc} the {@code gc.alloc.rate.norm} divided by {@code edges} is the memory per edge. Run it on the
+ * commit before the edge hashing change for the numbers to compare against, there the {@code hub} graph hashes
+ * every edge to 0 and doesn't finish at these sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class EdgeBenchmark {
+
+    @Param({"random", "hub"})
+    public String shape;
+
+    @Param({"1000000", "10000000"})
+    public int edges;
+
+    private int[][] data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("hub".equals(shape)) {
+            data = new int[edges][];
+            for (int i = 0; i < edges; i++) {
+                data[i] = new int[]{0, i + 1};
+            }
+        } else {
+            data = BenchmarkData.randomEdges(edges / 2, 4);
+        }
+    }
+
+    @Benchmark
+    public UndirectedGraph<Integer> add() {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        for (int[] edge : data) {
+            graph.add(edge[0], edge[1]);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,82 @@
+package in.zero.benchmark.link.graph;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.graph.CsrGraph;
+import in.zero.link.graph.UndirectedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link CsrGraph#parallelBreadthFirstTraversal} from 1 to 32 threads
+ * <p>
+ * Traverses the snapshot of a random connected graph with an average degree of {@code degree}, taken once per
+ * trial. {@link #sequential} is the single threaded {@link CsrGraph#breadthFirstTraversal(Object)} baseline, it
+ * doesn't depend on {@code parallelism}. {@link #parallel} starts a pool on every call, {@link #sharedPool} runs
+ * on one pool started per trial. Parallelism above the cores of the machine only measures the overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ParallelBreadthFirstBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    private CsrGraph<Integer> csr;
+
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        for (int[] edge : BenchmarkData.randomEdges(size, degree)) {
+            graph.add(edge[0], edge[1]);
+        }
+        csr = graph.toCsr();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> parallel() {
+        return csr.parallelBreadthFirstTraversal(0, parallelism);
+    }
+
+    @Benchmark
+    public List<Integer> sharedPool() {
+        return csr.parallelBreadthFirstTraversal(0, pool);
+    }
+
+    @Benchmark
+    public List<Integer> sequential() {
+        return csr.breadthFirstTraversal(0);
+    }
+}
@@ -0,0 +1,85 @@
+package in.zero.benchmark.link.graph;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.graph.UndirectedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single and bidirectional breadth first {@link UndirectedGraph#shortestPath(Object, Object, boolean)}
+ * <p>
+ * {@code main} is the 1000 vertex graph of {@code UndirectedGraph.main}, searched between 4 and 1000 like there.
+ * {@code random} is a random connected graph of a million vertices with an average degree of 4, searched between
+ * vertex 0 and its opposite on the ring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ShortestPathBenchmark {
+
+    private static final int RANDOM_SIZE = 1_000_000;
+
+    @Param({"main", "random"})
+    public String graph;
+
+    @Param({"false", "true"})
+    public boolean bidirectional;
+
+    private UndirectedGraph<Integer> g;
+
+    private int src;
+
+    private int dest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        g = new UndirectedGraph<>();
+        if ("main".equals(graph)) {
+            // binary tree of 1 ... 199 with the long cycles added in UndirectedGraph.main
+            for (int i = 1; i < 100; i++) {
+                g.add(i, 2 * i);
+                g.add(i, 2 * i + 1);
+            }
+            g.add(100, 200);
+            g.add(1, 200);
+            for (int i = 200; i < 1000; i += 100) {
+                g.add(i, i + 100);
+            }
+            g.add(1000, 1);
+            g.add(1, 100);
+            g.add(50, 150);
+            for (int i = 150; i < 950; i += 100) {
+                g.add(i, i + 100);
+            }
+            src = 4;
+            dest = 1000;
+        } else {
+            for (int[] edge : BenchmarkData.randomEdges(RANDOM_SIZE, 4)) {
+                g.add(edge[0], edge[1]);
+            }
+            src = 0;
+            dest = RANDOM_SIZE / 2;
+        }
+    }
+
+    @Benchmark
+    public List<List<Integer>> shortestPath() {
+        return g.shortestPath(src, dest, bidirectional);
+    }
+}
@@ -0,0 +1,80 @@
+package in.zero.benchmark.link.graph;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.graph.UndirectedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traversals over a random connected {@link UndirectedGraph}
+ * <p>
+ * The graph has {@code size} vertices with an average degree of {@code degree}, generated from a fixed seed.
+ * Under {@code -prof gc} the {@code gc.alloc.rate.norm} of a traversal is its allocation per call, neighbours come
+ * from the cached adjacency lists so it stays within the visited set, result list and stacks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class UndirectedGraphBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"4"})
+    public int degree;
+
+    private UndirectedGraph<Integer> graph;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = new UndirectedGraph<>();
+        for (int[] edge : BenchmarkData.randomEdges(size, degree)) {
+            graph.add(edge[0], edge[1]);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> depthFirstTraversal() {
+        return graph.depthFirstTraversal(0);
+    }
+
+    @Benchmark
+    public List<Integer> breadthFirstTraversal() {
+        return graph.breadthFirstTraversal(0);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> getNeighbours() {
+        int vertex = cursor;
+        cursor = vertex + 1 == size ? 0 : vertex + 1;
+        return graph.getNeighbours(vertex);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void forEachNeighbour(Blackhole bh) {
+        int vertex = cursor;
+        cursor = vertex + 1 == size ? 0 : vertex + 1;
+        graph.forEachNeighbour(vertex, bh::consume);
+    }
+}
@@ -0,0 +1,82 @@
+package in.zero.benchmark.link.mwaytree;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.mwaytree.BTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * add/remove/search/iterate over {@link BTree} for a few node widths
+ * <p>
+ * BPlusTree is not covered yet, its insertion path still fails from the second value onwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BTreeBenchmark {
+
+    @Param({"5", "16", "64"})
+    public int order;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private BTree<Integer> bTree;
+
+    private Integer[] present;
+
+    private Integer[] absent;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        present = BenchmarkData.presentKeys(size);
+        absent = BenchmarkData.absentKeys(size);
+        bTree = new BTree<>(Integer.class, order);
+        bTree.addAll(present);
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public boolean searchHit() {
+        return bTree.search(present[next()]);
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return bTree.search(absent[next()]);
+    }
+
+    @Benchmark
+    public Integer addRemove() {
+        Integer key = absent[next()];
+        bTree.add(key);
+        return bTree.remove(key);
+    }
+
+    @Benchmark
+    public Integer[] iterate() {
+        return bTree.inOrder();
+    }
+}
@@ -0,0 +1,69 @@
+package in.zero.benchmark.link.tree;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.tree.BinaryTree;
+import in.zero.link.tree.Heap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a complete {@link BinaryTree} / {@link Heap} one insert at a time, and draining the heap again
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CompleteTreeBuildBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private Integer[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.presentKeys(size);
+    }
+
+    @Benchmark
+    public BinaryTree<Integer> binaryTreeInserts() {
+        BinaryTree<Integer> tree = new BinaryTree<>();
+        for (Integer value : values) {
+            tree.add(value);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public Heap<Integer> heapInserts() {
+        Heap<Integer> heap = new Heap<>();
+        for (Integer value : values) {
+            heap.add(value);
+        }
+        return heap;
+    }
+
+    @Benchmark
+    public Integer heapInsertsAndPops() {
+        Heap<Integer> heap = heapInserts();
+        Integer last = null;
+        while (heap.size() > 0) {
+            last = heap.remove();
+        }
+        return last;
+    }
+}
@@ -0,0 +1,96 @@
+package in.zero.benchmark.link.tree;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.tree.Heap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * push/pop/search/iterate over {@link Heap}
+ * <p>
+ * {@link #addRemove} pushes a key and pops the top, which keeps the heap size stable across invocations.
+ * {@link #update} moves a queued value to a new priority through its {@link Heap.Handle}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HeapBenchmark {
+
+    @Param({"MIN", "MAX"})
+    public Heap.Type type;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Heap<Integer> heap;
+
+    private Integer[] present;
+
+    private Integer[] absent;
+
+    private Heap.Handle<Integer>[] handles;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        present = BenchmarkData.presentKeys(size);
+        absent = BenchmarkData.absentKeys(size);
+        heap = new Heap<>(type);
+        handles = new Heap.Handle[size];
+        for (int i = 0; i < size; i++) {
+            handles[i] = heap.insert(present[i]);
+        }
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public Integer addRemove() {
+        heap.add(absent[next()]);
+        return heap.remove();
+    }
+
+    @Benchmark
+    public void update() {
+        int index = next();
+        Heap.Handle<Integer> handle = handles[index];
+        if (!handle.isValid()) {
+            handles[index] = handle = heap.insert(present[index]);
+        }
+        heap.update(handle, handle.get().equals(present[index]) ? absent[index] : present[index]);
+    }
+
+    @Benchmark
+    public boolean search() {
+        return heap.search(present[next()]);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer value : heap) {
+            bh.consume(value);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package in.zero.benchmark.link.tree;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.tree.Heap;
+import in.zero.link.tree.PairingHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PairingHeap} against {@link Heap}
+ * <p>
+ * {@link #pushPop} and {@link #update} keep the heap size stable. {@link #pairingMeld} / {@link #heapMerge}
+ * rebuild the per worker heaps every invocation and merge them into a single heap, the way a global queue
+ * collects the queues of its workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PairingHeapBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"8"})
+    public int workers;
+
+    private Integer[] present;
+
+    private Integer[] absent;
+
+    private PairingHeap<Integer> pairing;
+
+    private PairingHeap.Handle<Integer>[] handles;
+
+    private Heap<Integer> heap;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        present = BenchmarkData.presentKeys(size);
+        absent = BenchmarkData.absentKeys(size);
+        pairing = new PairingHeap<>();
+        handles = new PairingHeap.Handle[size];
+        for (int i = 0; i < size; i++) {
+            handles[i] = pairing.insert(present[i]);
+        }
+        heap = new Heap<Integer>().addAll(present);
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        pairing.add(absent[next()]);
+        return pairing.remove();
+    }
+
+    @Benchmark
+    public Integer heapPushPop() {
+        heap.add(absent[next()]);
+        return heap.remove();
+    }
+
+    @Benchmark
+    public void update() {
+        int index = next();
+        PairingHeap.Handle<Integer> handle = handles[index];
+        if (!handle.isValid()) {
+            handles[index] = handle = pairing.insert(present[index]);
+        }
+        pairing.update(handle, handle.get().equals(present[index]) ? absent[index] : present[index]);
+    }
+
+    @Benchmark
+    public PairingHeap<Integer> pairingMeld() {
+        PairingHeap<Integer> global = new PairingHeap<>();
+        for (int w = 0; w < workers; w++) {
+            PairingHeap<Integer> worker = new PairingHeap<>();
+            for (int i = w; i < size; i += workers) {
+                worker.add(present[i]);
+            }
+            global.meld(worker);
+        }
+        return global;
+    }
+
+    @Benchmark
+    public Heap<Integer> heapMerge() {
+        Heap<Integer> global = new Heap<>();
+        for (int w = 0; w < workers; w++) {
+            Heap<Integer> worker = new Heap<>();
+            for (int i = w; i < size; i += workers) {
+                worker.add(present[i]);
+            }
+            while (worker.size() > 0) {
+                global.add(worker.remove());
+            }
+        }
+        return global;
+    }
+}
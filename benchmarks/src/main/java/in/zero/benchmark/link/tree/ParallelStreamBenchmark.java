@@ -0,0 +1,77 @@
+package in.zero.benchmark.link.tree;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.tree.RedBlackTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * map/filter/reduce over a {@link RedBlackTree} stream with an increasing number of worker threads
+ * <p>
+ * {@code parallelism = 0} runs the sequential stream, every other value runs the parallel stream inside a
+ * dedicated {@link ForkJoinPool} of that size so the scaling curve can be read straight from the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelStreamBenchmark {
+
+    @Param({"0", "1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private RedBlackTree<Integer> tree;
+
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tree = new RedBlackTree<>();
+        for (Integer key : BenchmarkData.presentKeys(size)) {
+            tree.add(key);
+        }
+        pool = parallelism > 0 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long mapFilterReduce() throws ExecutionException, InterruptedException {
+        if (pool == null) {
+            return reduce(false);
+        }
+        return pool.submit(() -> reduce(true)).get();
+    }
+
+    private long reduce(boolean parallel) {
+        return (parallel ? tree.parallelStream() : tree.stream())
+                .mapToLong(value -> (long) value * value)
+                .filter(value -> (value & 7) != 0)
+                .reduce(0L, Long::sum);
+    }
+}
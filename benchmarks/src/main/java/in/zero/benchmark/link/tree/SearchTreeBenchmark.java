@@ -0,0 +1,109 @@
+package in.zero.benchmark.link.tree;
+
+import in.zero.benchmark.BenchmarkData;
+import in.zero.link.tree.AVLTree;
+import in.zero.link.tree.BinarySearchTree;
+import in.zero.link.tree.RedBlackTree;
+import in.zero.link.tree.SplayTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * add/remove/search/iterate over every binary search tree flavour
+ * <p>
+ * The tree is populated once per trial with {@code size} shuffled keys, {@link #addRemove} inserts a key
+ * which is not present and removes it again so the tree size stays stable across invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SearchTreeBenchmark {
+
+    @Param({"BST", "AVL", "RED_BLACK", "SPLAY"})
+    public String tree;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private BinarySearchTree<Integer> bst;
+
+    private Integer[] present;
+
+    private Integer[] absent;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        present = BenchmarkData.presentKeys(size);
+        absent = BenchmarkData.absentKeys(size);
+        bst = newTree(tree);
+        for (Integer key : present) {
+            bst.add(key);
+        }
+    }
+
+    static BinarySearchTree<Integer> newTree(String tree) {
+        switch (tree) {
+            case "AVL":
+                return new AVLTree<>();
+            case "RED_BLACK":
+                return new RedBlackTree<>();
+            case "SPLAY":
+                return new SplayTree<>();
+            default:
+                return new BinarySearchTree<>();
+        }
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public boolean searchHit() {
+        return bst.search(present[next()]);
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return bst.search(absent[next()]);
+    }
+
+    @Benchmark
+    public Integer addRemove() {
+        Integer key = absent[next()];
+        bst.add(key);
+        return bst.remove(key);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer value : bst) {
+            bh.consume(value);
+        }
+    }
+
+    @Benchmark
+    public Integer streamFindFirst() {
+        return bst.stream().findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,261 @@
+package in.zero.array;
+
+import in.zero.Collection;
+import in.zero.IllegalOperationException;
+import in.zero.link.tree.Heap.Type;
+
+import java.util.Arrays;
+
+/**
+ * Implicit d-ary heap stored in a single array, shared by {@link Heap} (d = 2) and {@link DaryHeap}
+ * Children of the value at index i sit at d*i + 1 ... d*i + d, so no node objects or links are needed and a
+ * push/pop never allocates (the storage grows by doubling when it is full). Arity is a power of two so the
+ * index math stays shifts.
+ *
+ * @param <T> Comparable objects which can be stored
+ */
+abstract class ArrayHeap<T extends Comparable<T>> implements Collection<T> {
+
+    static final int DEFAULT_STORAGE_CAPACITY = 16;
+
+    private static final int MAX_STORAGE_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final Type type;
+
+    private final int orderMul;
+
+    private final int arity;
+
+    private final int shift;
+
+    Object[] data;
+
+    private int size;
+
+    ArrayHeap(int arity, Type type, int init) {
+        if (init > 0) {
+            this.arity = arity;
+            this.shift = Integer.numberOfTrailingZeros(arity);
+            this.type = type != null ? type : Type.MIN;
+            this.orderMul = this.type == Type.MAX ? -1 : 1;
+            this.data = new Object[init];
+        } else {
+            throw new IllegalArgumentException("Heap needs to have positive integer value as storage capacity");
+        }
+    }
+
+    /**
+     * Sifts the value up from a new slot at the end
+     *
+     * @param value value to be added
+     */
+    void push(T value) {
+        if (value != null) {
+            ensureCapacity(size + 1);
+            siftUp(size++, value);
+        } else {
+            throw new IllegalArgumentException("null values can't be stored inside a heap");
+        }
+    }
+
+    /**
+     * Add all the values provided, When the batch is at least as big as the heap the whole heap is rebuilt
+     * bottom-up (O(n + k)) instead of sifting up every value one by one. The whole batch is checked for null
+     * values before the heap is touched.
+     *
+     * @param values values to be added
+     */
+    void pushAll(T[] values) {
+        if (values != null) {
+            for (T value : values) {
+                if (value == null) {
+                    throw new IllegalArgumentException("null values can't be stored inside a heap");
+                }
+            }
+            ensureCapacity(size + values.length);
+            if (values.length >= size) {
+                for (T value : values) {
+                    data[size++] = value;
+                }
+                heapify();
+            } else {
+                for (T value : values) {
+                    siftUp(size++, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the value at the end without restoring the heap order, {@link #heapify()} has to follow
+     *
+     * @param value value to be stored
+     */
+    void append(T value) {
+        if (value != null) {
+            ensureCapacity(size + 1);
+            data[size++] = value;
+        } else {
+            throw new IllegalArgumentException("null values can't be stored inside a heap");
+        }
+    }
+
+    /**
+     * Floyd's heap construction, sifts down every internal value starting from the last one up to the root
+     */
+    @SuppressWarnings("unchecked")
+    void heapify() {
+        for (int i = (size - 2) >> shift; i >= 0; i--) {
+            siftDown(i, (T) data[i]);
+        }
+    }
+
+    /**
+     * Restricted operation
+     */
+    @Override
+    public T remove(T value) {
+        throw new IllegalOperationException("Operation not supported for heaps");
+    }
+
+    /**
+     * Restricted operation
+     */
+    @Override
+    @SafeVarargs
+    public final T[] removeAll(T... values) {
+        throw new IllegalOperationException("Operation not supported for heaps");
+    }
+
+    /**
+     * Pop out the top element from the heap
+     *
+     * @return popped out element or null if heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T remove() {
+        if (size > 0) {
+            final T top = (T) data[0];
+            final T last = (T) data[--size];
+            data[size] = null;
+            if (size > 0) {
+                siftDown(0, last);
+            }
+            return top;
+        }
+        return null;
+    }
+
+    /**
+     * Top element of the heap without removing it
+     *
+     * @return top element or null if heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return size > 0 ? (T) data[0] : null;
+    }
+
+    /**
+     * Searches any values existence in the heap
+     *
+     * @param value value to be searched
+     * @return true/false ~ found/notfound
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean search(T value) {
+        if (value != null) {
+            for (int i = 0; i < size; i++) {
+                if (((T) data[i]).compareTo(value) == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns type of heap
+     *
+     * @return MIN/MAX
+     */
+    public String heapType() {
+        return type.toString();
+    }
+
+    int arity() {
+        return arity;
+    }
+
+    /**
+     * Moves the value up from the given index till its parent is in heap order, Values are shifted down
+     * instead of swapped so each level costs a single write
+     *
+     * @param index vacant index from where the value starts
+     * @param value value to be placed
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, T value) {
+        while (index > 0) {
+            int parent = (index - 1) >> shift;
+            T parentValue = (T) data[parent];
+            if (orderMul * value.compareTo(parentValue) >= 0) {
+                break;
+            }
+            data[index] = parentValue;
+            index = parent;
+        }
+        data[index] = value;
+    }
+
+    /**
+     * Moves the value down from the given index, each level it takes the place of the top most of its
+     * children, the last of them on a tie (the choice the linked Heap makes, so a binary heap keeps its layout)
+     *
+     * @param index vacant index from where the value starts
+     * @param value value to be placed
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, T value) {
+        int first;
+        while ((first = (index << shift) + 1) < size && first > 0) {
+            int till = Math.min(first + arity, size), best = first;
+            T bestValue = (T) data[first];
+            for (int child = first + 1; child < till; child++) {
+                T childValue = (T) data[child];
+                if (orderMul * childValue.compareTo(bestValue) <= 0) {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (orderMul * value.compareTo(bestValue) <= 0) {
+                break;
+            }
+            data[index] = bestValue;
+            index = best;
+        }
+        data[index] = value;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            if (capacity < 0 || capacity > MAX_STORAGE_CAPACITY) {
+                throw new IllegalOperationException("Heap can't grow beyond " + MAX_STORAGE_CAPACITY + " values");
+            }
+            int grown = data.length << 1;
+            if (grown < 0 || grown > MAX_STORAGE_CAPACITY) {
+                grown = MAX_STORAGE_CAPACITY;
+            }
+            data = Arrays.copyOf(data, Math.max(grown, capacity));
+        }
+    }
+}
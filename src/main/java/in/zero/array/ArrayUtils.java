@@ -1,31 +1,51 @@
 package in.zero.array;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
+/**
+ * Range operations over arrays built on {@link System#arraycopy} and {@link Arrays#fill}
+ * The {@code shift}, {@code unshift} and {@code copyRangeToAnotherArray} families quietly ignore invalid indexes,
+ * the bulk {@code fill}, {@code move}, {@code insertMany} and {@code removeRange} ones throw for them.
+ * The sorted range searches take an {@code inverse} flag for descending ranges and encode a miss like
+ * {@link Arrays#binarySearch}. Every operation comes for object, {@code int}, {@code long} and {@code double} arrays.
+ */
 public class ArrayUtils {
 
+    /**
+     * Longest range {@code search} still scans linearly, see {@code ArrayUtilsSearchBenchmark} for the crossover.
+     * Kept below the one of {@link Integer} keys since costlier {@code compareTo} implementations cross over earlier.
+     */
+    public static final int LINEAR_SEARCH_THRESHOLD = 32;
+
     public static <T> T shift(T[] arr, int removalIndex) {
         if (arr != null) return shift(arr, removalIndex, arr.length - 1);
         return null;
     }
 
+    /**
+     * Removes the value at {@code removalIndex} moving {@code (removalIndex, lastIndex]} one place down and clearing
+     * {@code lastIndex}, out of range indexes leave the array untouched
+     *
+     * @return removed value, {@code null} if nothing was removed
+     */
     public static <T> T shift(final T[] arr, final int removalIndex, final int lastIndex) {
         if (arr != null && removalIndex >= 0 && removalIndex <= lastIndex && lastIndex < arr.length) {
             T returnData = arr[removalIndex];
-            for (int i = removalIndex; i < lastIndex; i++) {
-                arr[i] = arr[i + 1];
-            }
+            System.arraycopy(arr, removalIndex + 1, arr, removalIndex, lastIndex - removalIndex);
             arr[lastIndex] = null;
             return returnData;
         }
         return null;
     }
 
+    /**
+     * Inserts {@code value} at {@code insertIndex} moving {@code [insertIndex, lastIndex)} one place up, the value
+     * at {@code lastIndex} gets overwritten
+     */
     public static <T> void unshift(final T[] arr, final int insertIndex, final T value, final int lastIndex) {
         if (arr != null && insertIndex >= 0 && insertIndex <= lastIndex) {
-            for (int i = lastIndex; i > insertIndex; i--) {
-                arr[i] = arr[i - 1];
-            }
+            System.arraycopy(arr, insertIndex, arr, insertIndex + 1, lastIndex - insertIndex);
             arr[insertIndex] = value;
         }
     }
@@ -34,6 +54,11 @@ public class ArrayUtils {
         if (arr != null) unshift(arr, insertIndex, value, arr.length - 1);
     }
 
+    /**
+     * Copies {@code copyFrom[cfStart, cfEnd)} into {@code copyTo[ctStart, ctEnd)}, as many values as the shorter
+     * range holds, invalid ranges leave the target untouched. Overlapping ranges of the same array get copied as if
+     * through a temporary array.
+     */
     public static <T> void copyRangeToAnotherArray(
             final T[] copyFrom,
             final int cfStart,
@@ -43,9 +68,7 @@ public class ArrayUtils {
             final int ctEnd
     ) {
         if (copyFrom != null && copyTo != null && cfStart >= 0 && cfStart < copyFrom.length && cfEnd > cfStart && cfEnd <= copyFrom.length && ctStart >= 0 && ctStart < copyTo.length && ctEnd > ctStart && ctEnd <= copyTo.length) {
-            for (int i = cfStart, j = ctStart; i < cfEnd && j < ctEnd; j++, i++) {
-                copyTo[j] = copyFrom[i];
-            }
+            System.arraycopy(copyFrom, cfStart, copyTo, ctStart, Math.min(cfEnd - cfStart, ctEnd - ctStart));
         }
     }
 
@@ -83,6 +106,149 @@ public class ArrayUtils {
         copyRangeToAnotherArray(copyFrom, cfStart, copyFrom.length, copyTo, ctStart, copyTo.length);
     }
 
+    /**
+     * Sets every slot of {@code [from, to)} to {@code value}
+     *
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static <T> void fill(final T[] arr, final int from, final int to, final T value) {
+        checkRange(from, to, arr.length);
+        Arrays.fill(arr, from, to, value);
+    }
+
+    /**
+     * Moves {@code length} values starting at {@code from} so that they start at {@code to}, the ranges may overlap.
+     * Slots left behind keep their old values.
+     *
+     * @throws IndexOutOfBoundsException if either range doesn't fit in the array
+     */
+    public static <T> void move(final T[] arr, final int from, final int to, final int length) {
+        checkRange(from, from + length, arr.length);
+        checkRange(to, to + length, arr.length);
+        System.arraycopy(arr, from, arr, to, length);
+    }
+
+    /**
+     * Inserts all the {@code values} at {@code insertIndex} of an array holding {@code count} values in its front,
+     * moving {@code [insertIndex, count)} up by {@code values.length}
+     *
+     * @return number of values held after the insertion
+     * @throws IndexOutOfBoundsException if {@code insertIndex} is outside {@code [0, count]} or the values don't fit
+     */
+    public static <T> int insertMany(final T[] arr, final int insertIndex, final T[] values, final int count) {
+        checkRange(insertIndex, count, arr.length - values.length);
+        System.arraycopy(arr, insertIndex, arr, insertIndex + values.length, count - insertIndex);
+        System.arraycopy(values, 0, arr, insertIndex, values.length);
+        return count + values.length;
+    }
+
+    /**
+     * Removes {@code [from, to)} of an array holding {@code count} values in its front, moving {@code [to, count)}
+     * down and clearing the slots freed at the end
+     *
+     * @return number of values held after the removal
+     * @throws IndexOutOfBoundsException if the range is outside {@code [0, count]}
+     */
+    public static <T> int removeRange(final T[] arr, final int from, final int to, final int count) {
+        checkRange(from, to, count);
+        checkRange(count, count, arr.length);
+        System.arraycopy(arr, to, arr, from, count - to);
+        Arrays.fill(arr, count - (to - from), count, null);
+        return count - (to - from);
+    }
+
+    /**
+     * Scans the sorted range {@code [from, to)} for {@code key}, the order is descending when {@code inverse} is set
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static <T extends Comparable<? super T>> int linearSearch(final T[] arr, final int from, final int to, final T key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        for (int i = from; i < to; i++) {
+            int comp = orderMul * arr[i].compareTo(key);
+            if (comp >= 0) {
+                return comp == 0 ? i : -i - 1;
+            }
+        }
+        return -to - 1;
+    }
+
+    /**
+     * Binary search over the sorted range {@code [from, to)}, the order is descending when {@code inverse} is set
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static <T extends Comparable<? super T>> int binarySearch(final T[] arr, final int from, final int to, final T key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        int low = from, high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comp = orderMul * arr[mid].compareTo(key);
+            if (comp < 0) {
+                low = mid + 1;
+            } else if (comp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Binary search which only narrows the range down by a conditional move per step and compares for equality once
+     * at the end, so the loop has no data dependent branch to mispredict
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static <T extends Comparable<? super T>> int branchlessBinarySearch(final T[] arr, final int from, final int to, final T key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        if (from == to) return -from - 1;
+        final int orderMul = inverse ? -1 : 1;
+        int base = from, n = to - from;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = orderMul * arr[base + half].compareTo(key) < 0 ? base + half : base;
+            n -= half;
+        }
+        int index = orderMul * arr[base].compareTo(key) < 0 ? base + 1 : base;
+        return index < to && orderMul * arr[index].compareTo(key) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * Galloping search, probes {@code from + 1, from + 2, from + 4 ...} till it passes {@code key} and binary
+     * searches the last step only, cheaper than {@link #binarySearch} when the key sits close to {@code from}
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static <T extends Comparable<? super T>> int exponentialSearch(final T[] arr, final int from, final int to, final T key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        final int n = to - from;
+        int bound = 1;
+        while (bound < n && orderMul * arr[from + bound].compareTo(key) < 0) {
+            bound = bound > (n >>> 1) ? n : bound << 1;
+        }
+        return binarySearch(arr, from + (bound >>> 1), Math.min(from + bound + 1, to), key, inverse);
+    }
+
+    /**
+     * Picks {@link #linearSearch} for ranges up to {@link #LINEAR_SEARCH_THRESHOLD} values and
+     * {@link #binarySearch} for the longer ones
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static <T extends Comparable<? super T>> int search(final T[] arr, final int from, final int to, final T key, final boolean inverse) {
+        return to - from <= LINEAR_SEARCH_THRESHOLD ? linearSearch(arr, from, to, key, inverse) : binarySearch(arr, from, to, key, inverse);
+    }
+
     public static <T> int indexOf(T[] arr, T elem) {
         if (arr != null) {
             for (int i = 0; i < arr.length; i++) {
@@ -116,4 +282,796 @@ public class ArrayUtils {
         }
         return null;
     }
+
+    public static int shift(int[] arr, int removalIndex) {
+        if (arr != null) return shift(arr, removalIndex, arr.length - 1);
+        return 0;
+    }
+
+    /**
+     * Removes the value at {@code removalIndex} moving {@code (removalIndex, lastIndex]} one place down and clearing
+     * {@code lastIndex}, out of range indexes leave the array untouched
+     *
+     * @return removed value, {@code 0} if nothing was removed
+     */
+    public static int shift(final int[] arr, final int removalIndex, final int lastIndex) {
+        if (arr != null && removalIndex >= 0 && removalIndex <= lastIndex && lastIndex < arr.length) {
+            int returnData = arr[removalIndex];
+            System.arraycopy(arr, removalIndex + 1, arr, removalIndex, lastIndex - removalIndex);
+            arr[lastIndex] = 0;
+            return returnData;
+        }
+        return 0;
+    }
+
+    /**
+     * Inserts {@code value} at {@code insertIndex} moving {@code [insertIndex, lastIndex)} one place up, the value
+     * at {@code lastIndex} gets overwritten
+     */
+    public static void unshift(final int[] arr, final int insertIndex, final int value, final int lastIndex) {
+        if (arr != null && insertIndex >= 0 && insertIndex <= lastIndex) {
+            System.arraycopy(arr, insertIndex, arr, insertIndex + 1, lastIndex - insertIndex);
+            arr[insertIndex] = value;
+        }
+    }
+
+    public static void unshift(final int[] arr, final int insertIndex, final int value) {
+        if (arr != null) unshift(arr, insertIndex, value, arr.length - 1);
+    }
+
+    /**
+     * Copies {@code copyFrom[cfStart, cfEnd)} into {@code copyTo[ctStart, ctEnd)}, as many values as the shorter
+     * range holds, invalid ranges leave the target untouched. Overlapping ranges of the same array get copied as if
+     * through a temporary array.
+     */
+    public static void copyRangeToAnotherArray(
+            final int[] copyFrom,
+            final int cfStart,
+            final int cfEnd,
+            final int[] copyTo,
+            final int ctStart,
+            final int ctEnd
+    ) {
+        if (copyFrom != null && copyTo != null && cfStart >= 0 && cfStart < copyFrom.length && cfEnd > cfStart && cfEnd <= copyFrom.length && ctStart >= 0 && ctStart < copyTo.length && ctEnd > ctStart && ctEnd <= copyTo.length) {
+            System.arraycopy(copyFrom, cfStart, copyTo, ctStart, Math.min(cfEnd - cfStart, ctEnd - ctStart));
+        }
+    }
+
+    public static void copyRangeToAnotherArray(
+            final int[] copyFrom,
+            final int[] copyTo
+    ) {
+        copyRangeToAnotherArray(copyFrom, 0, copyFrom.length, copyTo, 0, copyTo.length);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final int[] copyFrom,
+            final int cfStart,
+            final int cfEnd,
+            final int[] copyTo
+    ) {
+        copyRangeToAnotherArray(copyFrom, cfStart, cfEnd, copyTo, 0, copyTo.length);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final int[] copyFrom,
+            final int[] copyTo,
+            final int ctStart,
+            final int ctEnd
+    ) {
+        copyRangeToAnotherArray(copyFrom, 0, copyFrom.length, copyTo, ctStart, ctEnd);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final int[] copyFrom,
+            final int cfStart,
+            final int[] copyTo,
+            final int ctStart
+    ) {
+        copyRangeToAnotherArray(copyFrom, cfStart, copyFrom.length, copyTo, ctStart, copyTo.length);
+    }
+
+    /**
+     * Sets every slot of {@code [from, to)} to {@code value}
+     *
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static void fill(final int[] arr, final int from, final int to, final int value) {
+        checkRange(from, to, arr.length);
+        Arrays.fill(arr, from, to, value);
+    }
+
+    /**
+     * Moves {@code length} values starting at {@code from} so that they start at {@code to}, the ranges may overlap.
+     * Slots left behind keep their old values.
+     *
+     * @throws IndexOutOfBoundsException if either range doesn't fit in the array
+     */
+    public static void move(final int[] arr, final int from, final int to, final int length) {
+        checkRange(from, from + length, arr.length);
+        checkRange(to, to + length, arr.length);
+        System.arraycopy(arr, from, arr, to, length);
+    }
+
+    /**
+     * Inserts all the {@code values} at {@code insertIndex} of an array holding {@code count} values in its front,
+     * moving {@code [insertIndex, count)} up by {@code values.length}
+     *
+     * @return number of values held after the insertion
+     * @throws IndexOutOfBoundsException if {@code insertIndex} is outside {@code [0, count]} or the values don't fit
+     */
+    public static int insertMany(final int[] arr, final int insertIndex, final int[] values, final int count) {
+        checkRange(insertIndex, count, arr.length - values.length);
+        System.arraycopy(arr, insertIndex, arr, insertIndex + values.length, count - insertIndex);
+        System.arraycopy(values, 0, arr, insertIndex, values.length);
+        return count + values.length;
+    }
+
+    /**
+     * Removes {@code [from, to)} of an array holding {@code count} values in its front, moving {@code [to, count)}
+     * down and clearing the slots freed at the end
+     *
+     * @return number of values held after the removal
+     * @throws IndexOutOfBoundsException if the range is outside {@code [0, count]}
+     */
+    public static int removeRange(final int[] arr, final int from, final int to, final int count) {
+        checkRange(from, to, count);
+        checkRange(count, count, arr.length);
+        System.arraycopy(arr, to, arr, from, count - to);
+        Arrays.fill(arr, count - (to - from), count, 0);
+        return count - (to - from);
+    }
+
+    /**
+     * Scans the sorted range {@code [from, to)} for {@code key}, the order is descending when {@code inverse} is set
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int linearSearch(final int[] arr, final int from, final int to, final int key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        for (int i = from; i < to; i++) {
+            int comp = orderMul * Integer.compare(arr[i], key);
+            if (comp >= 0) {
+                return comp == 0 ? i : -i - 1;
+            }
+        }
+        return -to - 1;
+    }
+
+    /**
+     * Binary search over the sorted range {@code [from, to)}, the order is descending when {@code inverse} is set
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int binarySearch(final int[] arr, final int from, final int to, final int key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        int low = from, high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comp = orderMul * Integer.compare(arr[mid], key);
+            if (comp < 0) {
+                low = mid + 1;
+            } else if (comp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Binary search which only narrows the range down by a conditional move per step and compares for equality once
+     * at the end, so the loop has no data dependent branch to mispredict
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int branchlessBinarySearch(final int[] arr, final int from, final int to, final int key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        if (from == to) return -from - 1;
+        final int orderMul = inverse ? -1 : 1;
+        int base = from, n = to - from;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = orderMul * Integer.compare(arr[base + half], key) < 0 ? base + half : base;
+            n -= half;
+        }
+        int index = orderMul * Integer.compare(arr[base], key) < 0 ? base + 1 : base;
+        return index < to && orderMul * Integer.compare(arr[index], key) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * Galloping search, probes {@code from + 1, from + 2, from + 4 ...} till it passes {@code key} and binary
+     * searches the last step only, cheaper than {@link #binarySearch} when the key sits close to {@code from}
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int exponentialSearch(final int[] arr, final int from, final int to, final int key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        final int n = to - from;
+        int bound = 1;
+        while (bound < n && orderMul * Integer.compare(arr[from + bound], key) < 0) {
+            bound = bound > (n >>> 1) ? n : bound << 1;
+        }
+        return binarySearch(arr, from + (bound >>> 1), Math.min(from + bound + 1, to), key, inverse);
+    }
+
+    /**
+     * Picks {@link #linearSearch} for ranges up to {@link #LINEAR_SEARCH_THRESHOLD} values and
+     * {@link #binarySearch} for the longer ones
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int search(final int[] arr, final int from, final int to, final int key, final boolean inverse) {
+        return to - from <= LINEAR_SEARCH_THRESHOLD ? linearSearch(arr, from, to, key, inverse) : binarySearch(arr, from, to, key, inverse);
+    }
+
+    /**
+     * Interpolation search, probes where {@code key} would sit if the values of {@code [from, to)} were evenly
+     * spread, close to O(log log n) probes on uniformly distributed keys and O(n) on badly skewed ones
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int interpolationSearch(final int[] arr, final int from, final int to, final int key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        int low = from, high = to - 1;
+        while (low <= high) {
+            int lowComp = orderMul * Integer.compare(arr[low], key);
+            if (lowComp >= 0) return lowComp == 0 ? low : -low - 1;
+            int highComp = orderMul * Integer.compare(arr[high], key);
+            if (highComp <= 0) return highComp == 0 ? high : -high - 2;
+            if (high - low < 2) return -high - 1;
+            int pos = low + (int) (((double) key - arr[low]) / ((double) arr[high] - arr[low]) * (high - low));
+            pos = Math.max(low + 1, Math.min(pos, high - 1));
+            int comp = orderMul * Integer.compare(arr[pos], key);
+            if (comp < 0) {
+                low = pos + 1;
+            } else if (comp > 0) {
+                high = pos - 1;
+            } else {
+                return pos;
+            }
+        }
+        return -low - 1;
+    }
+
+    public static long shift(long[] arr, int removalIndex) {
+        if (arr != null) return shift(arr, removalIndex, arr.length - 1);
+        return 0L;
+    }
+
+    /**
+     * Removes the value at {@code removalIndex} moving {@code (removalIndex, lastIndex]} one place down and clearing
+     * {@code lastIndex}, out of range indexes leave the array untouched
+     *
+     * @return removed value, {@code 0L} if nothing was removed
+     */
+    public static long shift(final long[] arr, final int removalIndex, final int lastIndex) {
+        if (arr != null && removalIndex >= 0 && removalIndex <= lastIndex && lastIndex < arr.length) {
+            long returnData = arr[removalIndex];
+            System.arraycopy(arr, removalIndex + 1, arr, removalIndex, lastIndex - removalIndex);
+            arr[lastIndex] = 0L;
+            return returnData;
+        }
+        return 0L;
+    }
+
+    /**
+     * Inserts {@code value} at {@code insertIndex} moving {@code [insertIndex, lastIndex)} one place up, the value
+     * at {@code lastIndex} gets overwritten
+     */
+    public static void unshift(final long[] arr, final int insertIndex, final long value, final int lastIndex) {
+        if (arr != null && insertIndex >= 0 && insertIndex <= lastIndex) {
+            System.arraycopy(arr, insertIndex, arr, insertIndex + 1, lastIndex - insertIndex);
+            arr[insertIndex] = value;
+        }
+    }
+
+    public static void unshift(final long[] arr, final int insertIndex, final long value) {
+        if (arr != null) unshift(arr, insertIndex, value, arr.length - 1);
+    }
+
+    /**
+     * Copies {@code copyFrom[cfStart, cfEnd)} into {@code copyTo[ctStart, ctEnd)}, as many values as the shorter
+     * range holds, invalid ranges leave the target untouched. Overlapping ranges of the same array get copied as if
+     * through a temporary array.
+     */
+    public static void copyRangeToAnotherArray(
+            final long[] copyFrom,
+            final int cfStart,
+            final int cfEnd,
+            final long[] copyTo,
+            final int ctStart,
+            final int ctEnd
+    ) {
+        if (copyFrom != null && copyTo != null && cfStart >= 0 && cfStart < copyFrom.length && cfEnd > cfStart && cfEnd <= copyFrom.length && ctStart >= 0 && ctStart < copyTo.length && ctEnd > ctStart && ctEnd <= copyTo.length) {
+            System.arraycopy(copyFrom, cfStart, copyTo, ctStart, Math.min(cfEnd - cfStart, ctEnd - ctStart));
+        }
+    }
+
+    public static void copyRangeToAnotherArray(
+            final long[] copyFrom,
+            final long[] copyTo
+    ) {
+        copyRangeToAnotherArray(copyFrom, 0, copyFrom.length, copyTo, 0, copyTo.length);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final long[] copyFrom,
+            final int cfStart,
+            final int cfEnd,
+            final long[] copyTo
+    ) {
+        copyRangeToAnotherArray(copyFrom, cfStart, cfEnd, copyTo, 0, copyTo.length);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final long[] copyFrom,
+            final long[] copyTo,
+            final int ctStart,
+            final int ctEnd
+    ) {
+        copyRangeToAnotherArray(copyFrom, 0, copyFrom.length, copyTo, ctStart, ctEnd);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final long[] copyFrom,
+            final int cfStart,
+            final long[] copyTo,
+            final int ctStart
+    ) {
+        copyRangeToAnotherArray(copyFrom, cfStart, copyFrom.length, copyTo, ctStart, copyTo.length);
+    }
+
+    /**
+     * Sets every slot of {@code [from, to)} to {@code value}
+     *
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static void fill(final long[] arr, final int from, final int to, final long value) {
+        checkRange(from, to, arr.length);
+        Arrays.fill(arr, from, to, value);
+    }
+
+    /**
+     * Moves {@code length} values starting at {@code from} so that they start at {@code to}, the ranges may overlap.
+     * Slots left behind keep their old values.
+     *
+     * @throws IndexOutOfBoundsException if either range doesn't fit in the array
+     */
+    public static void move(final long[] arr, final int from, final int to, final int length) {
+        checkRange(from, from + length, arr.length);
+        checkRange(to, to + length, arr.length);
+        System.arraycopy(arr, from, arr, to, length);
+    }
+
+    /**
+     * Inserts all the {@code values} at {@code insertIndex} of an array holding {@code count} values in its front,
+     * moving {@code [insertIndex, count)} up by {@code values.length}
+     *
+     * @return number of values held after the insertion
+     * @throws IndexOutOfBoundsException if {@code insertIndex} is outside {@code [0, count]} or the values don't fit
+     */
+    public static int insertMany(final long[] arr, final int insertIndex, final long[] values, final int count) {
+        checkRange(insertIndex, count, arr.length - values.length);
+        System.arraycopy(arr, insertIndex, arr, insertIndex + values.length, count - insertIndex);
+        System.arraycopy(values, 0, arr, insertIndex, values.length);
+        return count + values.length;
+    }
+
+    /**
+     * Removes {@code [from, to)} of an array holding {@code count} values in its front, moving {@code [to, count)}
+     * down and clearing the slots freed at the end
+     *
+     * @return number of values held after the removal
+     * @throws IndexOutOfBoundsException if the range is outside {@code [0, count]}
+     */
+    public static int removeRange(final long[] arr, final int from, final int to, final int count) {
+        checkRange(from, to, count);
+        checkRange(count, count, arr.length);
+        System.arraycopy(arr, to, arr, from, count - to);
+        Arrays.fill(arr, count - (to - from), count, 0L);
+        return count - (to - from);
+    }
+
+    /**
+     * Scans the sorted range {@code [from, to)} for {@code key}, the order is descending when {@code inverse} is set
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int linearSearch(final long[] arr, final int from, final int to, final long key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        for (int i = from; i < to; i++) {
+            int comp = orderMul * Long.compare(arr[i], key);
+            if (comp >= 0) {
+                return comp == 0 ? i : -i - 1;
+            }
+        }
+        return -to - 1;
+    }
+
+    /**
+     * Binary search over the sorted range {@code [from, to)}, the order is descending when {@code inverse} is set
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int binarySearch(final long[] arr, final int from, final int to, final long key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        int low = from, high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comp = orderMul * Long.compare(arr[mid], key);
+            if (comp < 0) {
+                low = mid + 1;
+            } else if (comp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Binary search which only narrows the range down by a conditional move per step and compares for equality once
+     * at the end, so the loop has no data dependent branch to mispredict
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int branchlessBinarySearch(final long[] arr, final int from, final int to, final long key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        if (from == to) return -from - 1;
+        final int orderMul = inverse ? -1 : 1;
+        int base = from, n = to - from;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = orderMul * Long.compare(arr[base + half], key) < 0 ? base + half : base;
+            n -= half;
+        }
+        int index = orderMul * Long.compare(arr[base], key) < 0 ? base + 1 : base;
+        return index < to && orderMul * Long.compare(arr[index], key) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * Galloping search, probes {@code from + 1, from + 2, from + 4 ...} till it passes {@code key} and binary
+     * searches the last step only, cheaper than {@link #binarySearch} when the key sits close to {@code from}
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int exponentialSearch(final long[] arr, final int from, final int to, final long key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        final int n = to - from;
+        int bound = 1;
+        while (bound < n && orderMul * Long.compare(arr[from + bound], key) < 0) {
+            bound = bound > (n >>> 1) ? n : bound << 1;
+        }
+        return binarySearch(arr, from + (bound >>> 1), Math.min(from + bound + 1, to), key, inverse);
+    }
+
+    /**
+     * Picks {@link #linearSearch} for ranges up to {@link #LINEAR_SEARCH_THRESHOLD} values and
+     * {@link #binarySearch} for the longer ones
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int search(final long[] arr, final int from, final int to, final long key, final boolean inverse) {
+        return to - from <= LINEAR_SEARCH_THRESHOLD ? linearSearch(arr, from, to, key, inverse) : binarySearch(arr, from, to, key, inverse);
+    }
+
+    /**
+     * Interpolation search, probes where {@code key} would sit if the values of {@code [from, to)} were evenly
+     * spread, close to O(log log n) probes on uniformly distributed keys and O(n) on badly skewed ones
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int interpolationSearch(final long[] arr, final int from, final int to, final long key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        int low = from, high = to - 1;
+        while (low <= high) {
+            int lowComp = orderMul * Long.compare(arr[low], key);
+            if (lowComp >= 0) return lowComp == 0 ? low : -low - 1;
+            int highComp = orderMul * Long.compare(arr[high], key);
+            if (highComp <= 0) return highComp == 0 ? high : -high - 2;
+            if (high - low < 2) return -high - 1;
+            int pos = low + (int) (((double) key - arr[low]) / ((double) arr[high] - arr[low]) * (high - low));
+            pos = Math.max(low + 1, Math.min(pos, high - 1));
+            int comp = orderMul * Long.compare(arr[pos], key);
+            if (comp < 0) {
+                low = pos + 1;
+            } else if (comp > 0) {
+                high = pos - 1;
+            } else {
+                return pos;
+            }
+        }
+        return -low - 1;
+    }
+
+    public static double shift(double[] arr, int removalIndex) {
+        if (arr != null) return shift(arr, removalIndex, arr.length - 1);
+        return 0.0;
+    }
+
+    /**
+     * Removes the value at {@code removalIndex} moving {@code (removalIndex, lastIndex]} one place down and clearing
+     * {@code lastIndex}, out of range indexes leave the array untouched
+     *
+     * @return removed value, {@code 0.0} if nothing was removed
+     */
+    public static double shift(final double[] arr, final int removalIndex, final int lastIndex) {
+        if (arr != null && removalIndex >= 0 && removalIndex <= lastIndex && lastIndex < arr.length) {
+            double returnData = arr[removalIndex];
+            System.arraycopy(arr, removalIndex + 1, arr, removalIndex, lastIndex - removalIndex);
+            arr[lastIndex] = 0.0;
+            return returnData;
+        }
+        return 0.0;
+    }
+
+    /**
+     * Inserts {@code value} at {@code insertIndex} moving {@code [insertIndex, lastIndex)} one place up, the value
+     * at {@code lastIndex} gets overwritten
+     */
+    public static void unshift(final double[] arr, final int insertIndex, final double value, final int lastIndex) {
+        if (arr != null && insertIndex >= 0 && insertIndex <= lastIndex) {
+            System.arraycopy(arr, insertIndex, arr, insertIndex + 1, lastIndex - insertIndex);
+            arr[insertIndex] = value;
+        }
+    }
+
+    public static void unshift(final double[] arr, final int insertIndex, final double value) {
+        if (arr != null) unshift(arr, insertIndex, value, arr.length - 1);
+    }
+
+    /**
+     * Copies {@code copyFrom[cfStart, cfEnd)} into {@code copyTo[ctStart, ctEnd)}, as many values as the shorter
+     * range holds, invalid ranges leave the target untouched. Overlapping ranges of the same array get copied as if
+     * through a temporary array.
+     */
+    public static void copyRangeToAnotherArray(
+            final double[] copyFrom,
+            final int cfStart,
+            final int cfEnd,
+            final double[] copyTo,
+            final int ctStart,
+            final int ctEnd
+    ) {
+        if (copyFrom != null && copyTo != null && cfStart >= 0 && cfStart < copyFrom.length && cfEnd > cfStart && cfEnd <= copyFrom.length && ctStart >= 0 && ctStart < copyTo.length && ctEnd > ctStart && ctEnd <= copyTo.length) {
+            System.arraycopy(copyFrom, cfStart, copyTo, ctStart, Math.min(cfEnd - cfStart, ctEnd - ctStart));
+        }
+    }
+
+    public static void copyRangeToAnotherArray(
+            final double[] copyFrom,
+            final double[] copyTo
+    ) {
+        copyRangeToAnotherArray(copyFrom, 0, copyFrom.length, copyTo, 0, copyTo.length);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final double[] copyFrom,
+            final int cfStart,
+            final int cfEnd,
+            final double[] copyTo
+    ) {
+        copyRangeToAnotherArray(copyFrom, cfStart, cfEnd, copyTo, 0, copyTo.length);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final double[] copyFrom,
+            final double[] copyTo,
+            final int ctStart,
+            final int ctEnd
+    ) {
+        copyRangeToAnotherArray(copyFrom, 0, copyFrom.length, copyTo, ctStart, ctEnd);
+    }
+
+    public static void copyRangeToAnotherArray(
+            final double[] copyFrom,
+            final int cfStart,
+            final double[] copyTo,
+            final int ctStart
+    ) {
+        copyRangeToAnotherArray(copyFrom, cfStart, copyFrom.length, copyTo, ctStart, copyTo.length);
+    }
+
+    /**
+     * Sets every slot of {@code [from, to)} to {@code value}
+     *
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static void fill(final double[] arr, final int from, final int to, final double value) {
+        checkRange(from, to, arr.length);
+        Arrays.fill(arr, from, to, value);
+    }
+
+    /**
+     * Moves {@code length} values starting at {@code from} so that they start at {@code to}, the ranges may overlap.
+     * Slots left behind keep their old values.
+     *
+     * @throws IndexOutOfBoundsException if either range doesn't fit in the array
+     */
+    public static void move(final double[] arr, final int from, final int to, final int length) {
+        checkRange(from, from + length, arr.length);
+        checkRange(to, to + length, arr.length);
+        System.arraycopy(arr, from, arr, to, length);
+    }
+
+    /**
+     * Inserts all the {@code values} at {@code insertIndex} of an array holding {@code count} values in its front,
+     * moving {@code [insertIndex, count)} up by {@code values.length}
+     *
+     * @return number of values held after the insertion
+     * @throws IndexOutOfBoundsException if {@code insertIndex} is outside {@code [0, count]} or the values don't fit
+     */
+    public static int insertMany(final double[] arr, final int insertIndex, final double[] values, final int count) {
+        checkRange(insertIndex, count, arr.length - values.length);
+        System.arraycopy(arr, insertIndex, arr, insertIndex + values.length, count - insertIndex);
+        System.arraycopy(values, 0, arr, insertIndex, values.length);
+        return count + values.length;
+    }
+
+    /**
+     * Removes {@code [from, to)} of an array holding {@code count} values in its front, moving {@code [to, count)}
+     * down and clearing the slots freed at the end
+     *
+     * @return number of values held after the removal
+     * @throws IndexOutOfBoundsException if the range is outside {@code [0, count]}
+     */
+    public static int removeRange(final double[] arr, final int from, final int to, final int count) {
+        checkRange(from, to, count);
+        checkRange(count, count, arr.length);
+        System.arraycopy(arr, to, arr, from, count - to);
+        Arrays.fill(arr, count - (to - from), count, 0.0);
+        return count - (to - from);
+    }
+
+    /**
+     * Scans the sorted range {@code [from, to)} for {@code key}, the order is descending when {@code inverse} is set
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int linearSearch(final double[] arr, final int from, final int to, final double key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        for (int i = from; i < to; i++) {
+            int comp = orderMul * Double.compare(arr[i], key);
+            if (comp >= 0) {
+                return comp == 0 ? i : -i - 1;
+            }
+        }
+        return -to - 1;
+    }
+
+    /**
+     * Binary search over the sorted range {@code [from, to)}, the order is descending when {@code inverse} is set
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int binarySearch(final double[] arr, final int from, final int to, final double key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        int low = from, high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comp = orderMul * Double.compare(arr[mid], key);
+            if (comp < 0) {
+                low = mid + 1;
+            } else if (comp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Binary search which only narrows the range down by a conditional move per step and compares for equality once
+     * at the end, so the loop has no data dependent branch to mispredict
+     *
+     * @return index of the first match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int branchlessBinarySearch(final double[] arr, final int from, final int to, final double key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        if (from == to) return -from - 1;
+        final int orderMul = inverse ? -1 : 1;
+        int base = from, n = to - from;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = orderMul * Double.compare(arr[base + half], key) < 0 ? base + half : base;
+            n -= half;
+        }
+        int index = orderMul * Double.compare(arr[base], key) < 0 ? base + 1 : base;
+        return index < to && orderMul * Double.compare(arr[index], key) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * Galloping search, probes {@code from + 1, from + 2, from + 4 ...} till it passes {@code key} and binary
+     * searches the last step only, cheaper than {@link #binarySearch} when the key sits close to {@code from}
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int exponentialSearch(final double[] arr, final int from, final int to, final double key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        final int n = to - from;
+        int bound = 1;
+        while (bound < n && orderMul * Double.compare(arr[from + bound], key) < 0) {
+            bound = bound > (n >>> 1) ? n : bound << 1;
+        }
+        return binarySearch(arr, from + (bound >>> 1), Math.min(from + bound + 1, to), key, inverse);
+    }
+
+    /**
+     * Picks {@link #linearSearch} for ranges up to {@link #LINEAR_SEARCH_THRESHOLD} values and
+     * {@link #binarySearch} for the longer ones
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int search(final double[] arr, final int from, final int to, final double key, final boolean inverse) {
+        return to - from <= LINEAR_SEARCH_THRESHOLD ? linearSearch(arr, from, to, key, inverse) : binarySearch(arr, from, to, key, inverse);
+    }
+
+    /**
+     * Interpolation search, probes where {@code key} would sit if the values of {@code [from, to)} were evenly
+     * spread, close to O(log log n) probes on uniformly distributed keys and O(n) on badly skewed ones
+     *
+     * @return index of a match, otherwise {@code -(insertion point) - 1}
+     * @throws IndexOutOfBoundsException if the range doesn't fit in the array
+     */
+    public static int interpolationSearch(final double[] arr, final int from, final int to, final double key, final boolean inverse) {
+        checkRange(from, to, arr.length);
+        final int orderMul = inverse ? -1 : 1;
+        int low = from, high = to - 1;
+        while (low <= high) {
+            int lowComp = orderMul * Double.compare(arr[low], key);
+            if (lowComp >= 0) return lowComp == 0 ? low : -low - 1;
+            int highComp = orderMul * Double.compare(arr[high], key);
+            if (highComp <= 0) return highComp == 0 ? high : -high - 2;
+            if (high - low < 2) return -high - 1;
+            int pos = low + (int) ((key - arr[low]) / (arr[high] - arr[low]) * (high - low));
+            pos = Math.max(low + 1, Math.min(pos, high - 1));
+            int comp = orderMul * Double.compare(arr[pos], key);
+            if (comp < 0) {
+                low = pos + 1;
+            } else if (comp > 0) {
+                high = pos - 1;
+            } else {
+                return pos;
+            }
+        }
+        return -low - 1;
+    }
+
+    private static void checkRange(final int from, final int to, final int length) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + length);
+        }
+    }
 }
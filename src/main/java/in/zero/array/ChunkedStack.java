@@ -0,0 +1,166 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+
+/**
+ * Growable stack backed by linked fixed size array chunks
+ * Growing links a new chunk on top instead of copying the whole storage, popping past the start of a chunk
+ * keeps the emptied chunk as a spare so a push/pop oscillation around a chunk boundary doesn't allocate.
+ *
+ * @param <T> type of the values
+ */
+public final class ChunkedStack<T> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final int chunkSize;
+
+    private StackChunk top;
+
+    /**
+     * Last emptied chunk, kept around for the next growth
+     */
+    private StackChunk spare;
+
+    /**
+     * Number of values in the top chunk
+     */
+    private int index;
+
+    private int size;
+
+    public ChunkedStack() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChunkedStack(int chunkSize) {
+        if (chunkSize > 0) {
+            this.chunkSize = chunkSize;
+            this.top = new StackChunk(chunkSize, null);
+        } else {
+            throw new IllegalArgumentException("Stack needs to have positive integer value as chunk size");
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void push(T elem) {
+        if (index == chunkSize) {
+            grow();
+        }
+        top.data[index++] = elem;
+        size++;
+    }
+
+    /**
+     * Push all the values provided, the last value ends up on top
+     *
+     * @param values values to be pushed in the given order
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only read, never stored or exposed
+    public final void pushAll(T... values) {
+        int from = 0;
+        while (from < values.length) {
+            if (index == chunkSize) {
+                grow();
+            }
+            int count = Math.min(values.length - from, chunkSize - index);
+            System.arraycopy(values, from, top.data, index, count);
+            index += count;
+            size += count;
+            from += count;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (size > 0) {
+            if (index == 0) {
+                shrink();
+            }
+            T d = (T) top.data[--index];
+            top.data[index] = null;
+            size--;
+            return d;
+        } else {
+            throw new IllegalOperationException("Stack is empty. Can't pop more.");
+        }
+    }
+
+    /**
+     * Pops values into the given array till either the stack is empty or the array is full, the former top
+     * ends up at index 0
+     *
+     * @param target array to be filled from index 0
+     * @return number of values moved into the array
+     */
+    @SuppressWarnings("unchecked")
+    public int popInto(T[] target) {
+        int count = 0;
+        while (count < target.length && size > 0) {
+            if (index == 0) {
+                shrink();
+            }
+            int take = Math.min(target.length - count, index);
+            for (int i = 0; i < take; i++) {
+                target[count++] = (T) top.data[--index];
+                top.data[index] = null;
+            }
+            size -= take;
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size > 0) {
+            return (T) (index > 0 ? top.data[index - 1] : top.prev.data[chunkSize - 1]);
+        } else {
+            throw new IllegalOperationException("Stack is empty.");
+        }
+    }
+
+    /**
+     * Links a chunk on top, the spare one if there is any
+     */
+    private void grow() {
+        StackChunk chunk = spare != null ? spare : new StackChunk(chunkSize, null);
+        spare = null;
+        chunk.prev = top;
+        top = chunk;
+        index = 0;
+    }
+
+    /**
+     * Drops the empty top chunk and keeps it as the spare
+     */
+    private void shrink() {
+        StackChunk emptied = top;
+        top = emptied.prev;
+        emptied.prev = null;
+        spare = emptied;
+        index = chunkSize;
+    }
+}
+
+/**
+ * Fixed size storage of {@link ChunkedStack}
+ */
+final class StackChunk {
+
+    final Object[] data;
+
+    StackChunk prev;
+
+    StackChunk(int size, StackChunk prev) {
+        this.data = new Object[size];
+        this.prev = prev;
+    }
+}
@@ -0,0 +1,65 @@
+package in.zero.array;
+
+import in.zero.link.tree.Heap.Type;
+
+/**
+ * Implicit d-ary heap stored in a single array
+ * Children of the value at index i sit at d*i + 1 ... d*i + d, next to each other in memory. A wider node
+ * makes the heap shallower (log_d n levels), so a pop touches fewer cache lines at the cost of comparing
+ * more children on every level. Arity has to be a power of two so the index math stays shifts.
+ *
+ * @param <T> Comparable objects which can be stored
+ */
+public final class DaryHeap<T extends Comparable<T>> extends ArrayHeap<T> {
+
+    public DaryHeap(int arity) {
+        this(arity, Type.MIN, DEFAULT_STORAGE_CAPACITY);
+    }
+
+    public DaryHeap(int arity, Type type) {
+        this(arity, type, DEFAULT_STORAGE_CAPACITY);
+    }
+
+    public DaryHeap(int arity, Type type, int init) {
+        super(checkArity(arity), type, init);
+    }
+
+    private static int checkArity(int arity) {
+        if (arity < 2 || arity > 64 || Integer.bitCount(arity) != 1) {
+            throw new IllegalArgumentException("Arity of the heap must be a power of two between 2 and 64");
+        }
+        return arity;
+    }
+
+    /**
+     * Add value to the heap
+     *
+     * @param value value to be added
+     * @return reference to the heap
+     */
+    @Override
+    public DaryHeap<T> add(T value) {
+        push(value);
+        return this;
+    }
+
+    /**
+     * Add all the values provided, When the batch is at least as big as the heap the whole heap is rebuilt
+     * bottom-up (O(n + k)) instead of sifting up every value one by one
+     *
+     * @param values values to be added
+     * @return reference to the heap
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only read, never stored or exposed
+    public final DaryHeap<T> addAll(T... values) {
+        pushAll(values);
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return super.arity();
+    }
+}
@@ -0,0 +1,97 @@
+package in.zero.array;
+
+import in.zero.link.tree.Heap.Type;
+
+/**
+ * Implicit binary heap stored in a single array
+ * Children of the value at index i sit at 2i + 1 and 2i + 2, so no node objects or links are needed and a
+ * push/pop never allocates (the storage grows by doubling when it is full). Follows the same MIN/MAX
+ * semantics as {@link in.zero.link.tree.Heap} and produces the same layout for the same sequence of
+ * operations. Same code as a {@link DaryHeap} of arity 2
+ *
+ * @param <T> Comparable objects which can be stored
+ */
+public final class Heap<T extends Comparable<T>> extends ArrayHeap<T> {
+
+    public Heap() {
+        this(Type.MIN, DEFAULT_STORAGE_CAPACITY);
+    }
+
+    public Heap(Type type) {
+        this(type, DEFAULT_STORAGE_CAPACITY);
+    }
+
+    public Heap(int init) {
+        this(Type.MIN, init);
+    }
+
+    public Heap(Type type, int init) {
+        super(2, type, init);
+    }
+
+    /**
+     * Builds the heap out of the given values in linear time
+     *
+     * @param values values to be stored
+     * @param type   MIN/MAX
+     */
+    public Heap(T[] values, Type type) {
+        this(type, values != null && values.length > 0 ? values.length : DEFAULT_STORAGE_CAPACITY);
+        pushAll(values);
+    }
+
+    /**
+     * Builds a min heap out of the given values in linear time
+     *
+     * @param values values to be stored
+     * @return min heap
+     */
+    public static <T extends Comparable<T>> Heap<T> of(java.util.Collection<? extends T> values) {
+        return of(values, Type.MIN);
+    }
+
+    /**
+     * Builds a heap out of the given values in linear time
+     *
+     * @param values values to be stored
+     * @param type   MIN/MAX
+     * @return heap
+     */
+    public static <T extends Comparable<T>> Heap<T> of(java.util.Collection<? extends T> values, Type type) {
+        Heap<T> heap = new Heap<>(type, values != null && !values.isEmpty() ? values.size() : DEFAULT_STORAGE_CAPACITY);
+        if (values != null) {
+            for (T value : values) {
+                heap.append(value);
+            }
+            heap.heapify();
+        }
+        return heap;
+    }
+
+    /**
+     * Add value to the heap
+     *
+     * @param value value to be added
+     * @return reference to the heap
+     */
+    @Override
+    public Heap<T> add(T value) {
+        push(value);
+        return this;
+    }
+
+    /**
+     * Add all the values provided, When the batch is at least as big as the heap the whole heap is rebuilt
+     * bottom-up (O(n + k)) instead of sifting up every value one by one
+     *
+     * @param values values to be added
+     * @return reference to the heap
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only read, never stored or exposed
+    public final Heap<T> addAll(T... values) {
+        pushAll(values);
+        return this;
+    }
+}
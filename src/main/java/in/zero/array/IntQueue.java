@@ -0,0 +1,135 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+
+/**
+ * Growable circular queue of primitive {@code int} values, stored unboxed in a power of two {@code int[]}
+ * which doubles when full (see {@link RingBufferQueue})
+ */
+public final class IntQueue {
+
+    private static final int DEFAULT_STORAGE_CAPACITY = 16;
+
+    private static final int MAX_STORAGE_CAPACITY = 1 << 30;
+
+    int[] data;
+
+    private int mask;
+
+    private int head;
+
+    private int size;
+
+    public IntQueue() {
+        this(DEFAULT_STORAGE_CAPACITY);
+    }
+
+    /**
+     * @param init initial capacity, rounded up to the next power of two
+     */
+    public IntQueue(int init) {
+        if (init > 0 && init <= MAX_STORAGE_CAPACITY) {
+            int capacity = init == 1 ? 1 : Integer.highestOneBit(init - 1) << 1;
+            data = new int[capacity];
+            mask = capacity - 1;
+        } else {
+            throw new IllegalArgumentException("Queue needs to have positive integer value as storage capacity");
+        }
+    }
+
+    public void enqueue(int value) {
+        if (size == data.length) {
+            resize(size + 1);
+        }
+        data[(head + size) & mask] = value;
+        size++;
+    }
+
+    /**
+     * Enqueue all the values provided, storage grows at most once for the whole batch
+     *
+     * @param values values to be enqueued in the given order
+     */
+    public void enqueueAll(int... values) {
+        if (values.length > 0) {
+            if (size + values.length > data.length) {
+                resize(size + values.length);
+            }
+            int tail = (head + size) & mask;
+            int firstPart = Math.min(values.length, data.length - tail);
+            System.arraycopy(values, 0, data, tail, firstPart);
+            System.arraycopy(values, firstPart, data, 0, values.length - firstPart);
+            size += values.length;
+        }
+    }
+
+    public int dequeue() {
+        if (size > 0) {
+            int value = data[head];
+            head = (head + 1) & mask;
+            size--;
+            return value;
+        } else {
+            throw new IllegalOperationException("`dequeue` operation is not allowed on empty queue");
+        }
+    }
+
+    /**
+     * Dequeues values into the given array till either the queue is empty or the array is full
+     *
+     * @param target array to be filled from index 0
+     * @return number of values moved into the array
+     */
+    public int drainTo(int[] target) {
+        int count = Math.min(size, target.length);
+        int firstPart = Math.min(count, data.length - head);
+        System.arraycopy(data, head, target, 0, firstPart);
+        System.arraycopy(data, 0, target, firstPart, count - firstPart);
+        head = (head + count) & mask;
+        size -= count;
+        return count;
+    }
+
+    public int peek() {
+        if (size > 0) {
+            return data[head];
+        } else {
+            throw new IllegalOperationException("`peek` operation is not allowed on empty queue");
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values, the storage is kept for reuse
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Moves the values to a new array big enough for the required capacity, unwrapping them to start at 0
+     *
+     * @param required number of values the queue has to hold
+     */
+    private void resize(int required) {
+        if (required < 0 || required > MAX_STORAGE_CAPACITY) {
+            throw new IllegalOperationException("Queue can't grow beyond " + MAX_STORAGE_CAPACITY + " values");
+        }
+        int capacity = Integer.highestOneBit(required - 1) << 1;
+        int[] resized = new int[capacity];
+        int firstPart = Math.min(size, data.length - head);
+        System.arraycopy(data, head, resized, 0, firstPart);
+        System.arraycopy(data, 0, resized, firstPart, size - firstPart);
+        data = resized;
+        mask = capacity - 1;
+        head = 0;
+    }
+}
@@ -0,0 +1,109 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+
+import java.util.Arrays;
+
+/**
+ * Growable stack of primitive {@code int} values, stored unboxed in a single {@code int[]} which doubles
+ * when full
+ */
+public final class IntStack {
+
+    private static final int DEFAULT_STORAGE_CAPACITY = 16;
+
+    private static final int MAX_STORAGE_CAPACITY = Integer.MAX_VALUE - 8;
+
+    int[] data;
+
+    private int top;
+
+    public IntStack() {
+        this(DEFAULT_STORAGE_CAPACITY);
+    }
+
+    public IntStack(int init) {
+        if (init > 0) {
+            data = new int[init];
+        } else {
+            throw new IllegalArgumentException("Stack needs to have positive integer value as storage capacity");
+        }
+    }
+
+    public boolean isEmpty() {
+        return top == 0;
+    }
+
+    public int size() {
+        return top;
+    }
+
+    public void push(int value) {
+        if (top == data.length) {
+            grow(top + 1);
+        }
+        data[top++] = value;
+    }
+
+    /**
+     * Push all the values provided, the last value ends up on top
+     *
+     * @param values values to be pushed in the given order
+     */
+    public void pushAll(int... values) {
+        if (top + values.length > data.length) {
+            grow(top + values.length);
+        }
+        System.arraycopy(values, 0, data, top, values.length);
+        top += values.length;
+    }
+
+    public int pop() {
+        if (top > 0) {
+            return data[--top];
+        } else {
+            throw new IllegalOperationException("Stack is empty. Can't pop more.");
+        }
+    }
+
+    /**
+     * Pops values into the given array till either the stack is empty or the array is full, the former top
+     * ends up at index 0
+     *
+     * @param target array to be filled from index 0
+     * @return number of values moved into the array
+     */
+    public int popInto(int[] target) {
+        int count = Math.min(top, target.length);
+        for (int i = 0; i < count; i++) {
+            target[i] = data[--top];
+        }
+        return count;
+    }
+
+    public int peek() {
+        if (top > 0) {
+            return data[top - 1];
+        } else {
+            throw new IllegalOperationException("Stack is empty.");
+        }
+    }
+
+    /**
+     * Removes all the values, the storage is kept for reuse
+     */
+    public void clear() {
+        top = 0;
+    }
+
+    private void grow(int capacity) {
+        if (capacity < 0 || capacity > MAX_STORAGE_CAPACITY) {
+            throw new IllegalOperationException("Stack can't grow beyond " + MAX_STORAGE_CAPACITY + " values");
+        }
+        int grown = data.length << 1;
+        if (grown < 0 || grown > MAX_STORAGE_CAPACITY) {
+            grown = MAX_STORAGE_CAPACITY;
+        }
+        data = Arrays.copyOf(data, Math.max(grown, capacity));
+    }
+}
@@ -62,7 +62,7 @@ public final class Queue<T> {
     }
 
     public boolean isFull() {
-        return ((end + 1) % storCap) == start;
+        return start == end;
     }
 
     void printTrace() {
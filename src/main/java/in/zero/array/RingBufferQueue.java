@@ -0,0 +1,175 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+
+import java.util.Arrays;
+
+/**
+ * Growable circular array queue
+ * Capacity is always a power of two so positions wrap with a bit mask instead of {@code %}. The storage
+ * doubles when it is full and, if shrinking is enabled, halves again once it is only a quarter used (never
+ * below the initial capacity).
+ *
+ * @param <T> type of the values
+ */
+public final class RingBufferQueue<T> {
+
+    private static final int DEFAULT_STORAGE_CAPACITY = 16;
+
+    private static final int MAX_STORAGE_CAPACITY = 1 << 30;
+
+    private final int minCapacity;
+
+    private final boolean shrink;
+
+    Object[] data;
+
+    private int mask;
+
+    private int head;
+
+    private int size;
+
+    public RingBufferQueue() {
+        this(DEFAULT_STORAGE_CAPACITY, false);
+    }
+
+    public RingBufferQueue(int init) {
+        this(init, false);
+    }
+
+    /**
+     * @param init   initial capacity, rounded up to the next power of two
+     * @param shrink release storage again when the queue drains down
+     */
+    public RingBufferQueue(int init, boolean shrink) {
+        if (init > 0 && init <= MAX_STORAGE_CAPACITY) {
+            minCapacity = init == 1 ? 1 : Integer.highestOneBit(init - 1) << 1;
+            data = new Object[minCapacity];
+            mask = minCapacity - 1;
+            this.shrink = shrink;
+        } else {
+            throw new IllegalArgumentException("Queue needs to have positive integer value as storage capacity");
+        }
+    }
+
+    public void enqueue(T value) {
+        if (size == data.length) {
+            resize(data.length << 1);
+        }
+        data[(head + size) & mask] = value;
+        size++;
+    }
+
+    /**
+     * Enqueue all the values provided, storage grows at most once for the whole batch
+     *
+     * @param values values to be enqueued in the given order
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only read, never stored or exposed
+    public final void enqueueAll(T... values) {
+        if (values.length > 0) {
+            int required = size + values.length;
+            if (required < 0 || required > MAX_STORAGE_CAPACITY) {
+                throw new IllegalOperationException("Queue can't grow beyond " + MAX_STORAGE_CAPACITY + " values");
+            }
+            if (required > data.length) {
+                resize(Integer.highestOneBit(required - 1) << 1);
+            }
+            int tail = (head + size) & mask;
+            int firstPart = Math.min(values.length, data.length - tail);
+            System.arraycopy(values, 0, data, tail, firstPart);
+            System.arraycopy(values, firstPart, data, 0, values.length - firstPart);
+            size = required;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T dequeue() {
+        if (size > 0) {
+            T value = (T) data[head];
+            data[head] = null;
+            head = (head + 1) & mask;
+            size--;
+            if (shrink && size < (data.length >>> 2) && data.length > minCapacity) {
+                resize(data.length >>> 1);
+            }
+            return value;
+        } else {
+            throw new IllegalOperationException("`dequeue` operation is not allowed on empty queue");
+        }
+    }
+
+    /**
+     * Dequeues values into the given array till either the queue is empty or the array is full
+     *
+     * @param target array to be filled from index 0
+     * @return number of values moved into the array
+     */
+    public int drainTo(T[] target) {
+        int count = Math.min(size, target.length);
+        if (count > 0) {
+            int firstPart = Math.min(count, data.length - head);
+            System.arraycopy(data, head, target, 0, firstPart);
+            System.arraycopy(data, 0, target, firstPart, count - firstPart);
+            // only the drained slots are cleared, the rest of the storage is null already
+            Arrays.fill(data, head, head + firstPart, null);
+            Arrays.fill(data, 0, count - firstPart, null);
+            head = count == size ? 0 : (head + count) & mask;
+            size -= count;
+            if (shrink && data.length > minCapacity && size < (data.length >>> 2)) {
+                int capacity = data.length;
+                while (capacity > minCapacity && size < (capacity >>> 2)) {
+                    capacity >>>= 1;
+                }
+                resize(capacity);
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size > 0) {
+            return (T) data[head];
+        } else {
+            throw new IllegalOperationException("`peek` operation is not allowed on empty queue");
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Current storage capacity
+     *
+     * @return length of the backing array
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Moves the values to a new array of the given (power of two) capacity, unwrapping them to start at 0
+     *
+     * @param capacity new capacity, must be able to hold the current values
+     */
+    private void resize(int capacity) {
+        if (capacity <= 0 || capacity > MAX_STORAGE_CAPACITY) {
+            throw new IllegalOperationException("Queue can't grow beyond " + MAX_STORAGE_CAPACITY + " values");
+        }
+        Object[] resized = new Object[capacity];
+        int firstPart = Math.min(size, data.length - head);
+        System.arraycopy(data, head, resized, 0, firstPart);
+        System.arraycopy(data, 0, resized, firstPart, size - firstPart);
+        data = resized;
+        mask = capacity - 1;
+        head = 0;
+    }
+}
@@ -0,0 +1,261 @@
+package in.zero.array;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread
+ * The producer owns {@code tail} and the consumer owns {@code head}, each counter is only ever written by its
+ * owner and published with an ordered (release) store, the other side reads it with a volatile (acquire) load.
+ * Both sides also keep a cached copy of the other side's counter so the shared cache line is only read when
+ * the cached value says the queue looks full / empty. Counters sit on their own cache lines (padding through
+ * the class hierarchy below) so the two threads don't false share.
+ * <p>
+ * Calling {@code offer*} from more than one thread, or {@code poll}/{@code peek}/{@code drainTo} from more than
+ * one thread, breaks the queue.
+ *
+ * @param <T> type of the values, null can't be stored
+ */
+public final class SpscQueue<T> extends SpscQueueConsumerPad {
+
+    private static final int DEFAULT_STORAGE_CAPACITY = 1024;
+
+    private static final int MAX_STORAGE_CAPACITY = 1 << 30;
+
+    /**
+     * Unused slots on both ends of the buffer so the first and last values don't share a cache line with the
+     * array header or a neighbouring object
+     */
+    private static final int BUFFER_PAD = 16;
+
+    private static final AtomicLongFieldUpdater<SpscQueueProducerFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(SpscQueueProducerFields.class, "tail");
+
+    private static final AtomicLongFieldUpdater<SpscQueueConsumerFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(SpscQueueConsumerFields.class, "head");
+
+    private final Object[] buffer;
+
+    private final int mask;
+
+    private final int capacity;
+
+    public SpscQueue() {
+        this(DEFAULT_STORAGE_CAPACITY);
+    }
+
+    /**
+     * @param init capacity, rounded up to the next power of two
+     */
+    public SpscQueue(int init) {
+        if (init > 0 && init <= MAX_STORAGE_CAPACITY) {
+            capacity = init == 1 ? 1 : Integer.highestOneBit(init - 1) << 1;
+            mask = capacity - 1;
+            buffer = new Object[capacity + (BUFFER_PAD << 1)];
+        } else {
+            throw new IllegalArgumentException("Queue needs to have positive integer value as storage capacity");
+        }
+    }
+
+    /**
+     * Producer side, adds the value if there is space
+     *
+     * @param value value to be added
+     * @return false if the queue is full
+     */
+    public boolean offer(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null values can't be stored inside the queue");
+        }
+        final long t = tail;
+        if (t - headCache >= capacity) {
+            headCache = head;
+            if (t - headCache >= capacity) {
+                return false;
+            }
+        }
+        buffer[slot(t)] = value;
+        TAIL.lazySet(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Producer side, adds as many of the given values as fit and publishes them with a single store
+     * The whole range is checked for null values before any of them is stored.
+     *
+     * @param values values to be added
+     * @param from   index of the first value to add
+     * @param count  number of values to add
+     * @return number of values added (from the start of the range)
+     */
+    public int offerAll(T[] values, int from, int count) {
+        if (from < 0 || count < 0 || from + count > values.length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + (from + count) + ") is out of bounds for length " + values.length);
+        }
+        for (int i = from; i < from + count; i++) {
+            if (values[i] == null) {
+                throw new IllegalArgumentException("null values can't be stored inside the queue");
+            }
+        }
+        final long t = tail;
+        long free = capacity - (t - headCache);
+        if (free < count) {
+            headCache = head;
+            free = capacity - (t - headCache);
+        }
+        final int added = (int) Math.min(free, count);
+        for (int i = 0; i < added; i++) {
+            buffer[slot(t + i)] = values[from + i];
+        }
+        if (added > 0) {
+            TAIL.lazySet(this, t + added);
+        }
+        return added;
+    }
+
+    /**
+     * Producer side, adds as many of the given values as fit
+     *
+     * @param values values to be added
+     * @return number of values added (from the start of the array)
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only read, never stored or exposed
+    public final int offerAll(T... values) {
+        return offerAll(values, 0, values.length);
+    }
+
+    /**
+     * Consumer side, removes the oldest value
+     *
+     * @return oldest value or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        final long h = head;
+        if (h >= tailCache) {
+            tailCache = tail;
+            if (h >= tailCache) {
+                return null;
+            }
+        }
+        final int index = slot(h);
+        T value = (T) buffer[index];
+        buffer[index] = null;
+        HEAD.lazySet(this, h + 1);
+        return value;
+    }
+
+    /**
+     * Consumer side, oldest value without removing it
+     *
+     * @return oldest value or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        final long h = head;
+        if (h >= tailCache) {
+            tailCache = tail;
+            if (h >= tailCache) {
+                return null;
+            }
+        }
+        return (T) buffer[slot(h)];
+    }
+
+    /**
+     * Consumer side, removes values into the given array till either the queue is empty or the array is full,
+     * the freed space is published to the producer with a single store
+     *
+     * @param target array to be filled from index 0
+     * @return number of values moved into the array
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(T[] target) {
+        final long h = head;
+        long available = tailCache - h;
+        if (available < target.length) {
+            tailCache = tail;
+            available = tailCache - h;
+        }
+        final int count = (int) Math.min(available, target.length);
+        for (int i = 0; i < count; i++) {
+            final int index = slot(h + i);
+            target[i] = (T) buffer[index];
+            buffer[index] = null;
+        }
+        if (count > 0) {
+            HEAD.lazySet(this, h + count);
+        }
+        return count;
+    }
+
+    /**
+     * Number of values in the queue, only a snapshot when the other side is running
+     *
+     * @return values in the queue
+     */
+    public int size() {
+        long h = head, t;
+        while (true) {
+            t = tail;
+            long again = head;
+            if (again == h) {
+                break;
+            }
+            h = again;
+        }
+        return (int) Math.max(0, Math.min(t - h, capacity));
+    }
+
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int slot(long sequence) {
+        return BUFFER_PAD + ((int) sequence & mask);
+    }
+}
+
+/**
+ * Padding before the producer fields
+ */
+abstract class SpscQueueHeadPad {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+}
+
+/**
+ * Written only by the producer
+ */
+abstract class SpscQueueProducerFields extends SpscQueueHeadPad {
+    volatile long tail;
+    long headCache;
+}
+
+/**
+ * Padding between the producer and the consumer fields
+ */
+abstract class SpscQueueProducerPad extends SpscQueueProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+    long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+}
+
+/**
+ * Written only by the consumer
+ */
+abstract class SpscQueueConsumerFields extends SpscQueueProducerPad {
+    volatile long head;
+    long tailCache;
+}
+
+/**
+ * Padding after the consumer fields
+ */
+abstract class SpscQueueConsumerPad extends SpscQueueConsumerFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+}
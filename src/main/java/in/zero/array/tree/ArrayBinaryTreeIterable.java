@@ -0,0 +1,21 @@
+package in.zero.array.tree;
+
+import java.util.Iterator;
+
+/**
+ * Iterable specially tuned for array backed tree collections
+ *
+ * @param <T>
+ */
+interface ArrayBinaryTreeIterable<T> extends java.lang.Iterable<T> {
+
+    Iterator<T> levelOrderIterator();
+
+    Iterator<T> preOrderIterator();
+
+    Iterator<T> inOrderIterator();
+
+    Iterator<T> postOrderIterator();
+
+    Iterator<T> reverseOrderIterator();
+}
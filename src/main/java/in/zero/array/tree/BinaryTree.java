@@ -1,2 +1,535 @@
-package in.zero.array.tree;public class BinaryTree {
+package in.zero.array.tree;
+
+import in.zero.Collection;
+import in.zero.IllegalOperationException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Complete binary tree stored implicitly in a single array
+ * The value at index i has its children at 2i + 1 and 2i + 2 and its parent at (i - 1) / 2, so the tree needs
+ * no node objects and no links. Adds fill the tree level by level exactly like
+ * {@link in.zero.link.tree.BinaryTree} and every traversal visits the values in the same order, walking the
+ * tree through index arithmetic only.
+ *
+ * @param <T> Any object which we want to store inside a tree
+ */
+public class BinaryTree<T> implements ArrayBinaryTreeIterable<T>, Collection<T> {
+
+    private static final int DEFAULT_STORAGE_CAPACITY = 16;
+
+    private static final int MAX_STORAGE_CAPACITY = Integer.MAX_VALUE - 8;
+
+    Object[] data;
+
+    int nodesCount;
+
+    public BinaryTree() {
+        this(DEFAULT_STORAGE_CAPACITY);
+    }
+
+    public BinaryTree(int init) {
+        if (init > 0) {
+            this.data = new Object[init];
+        } else {
+            throw new IllegalArgumentException("Tree needs to have positive integer value as storage capacity");
+        }
+    }
+
+    /**
+     * Custom iterator to iterate values of the array Binary Tree
+     * Indexes are produced lazily, one per {@link #next()} call, out of the index of the current value
+     */
+    private abstract class BinaryTreeIterator implements Iterator<T> {
+
+        private int next;
+
+        BinaryTreeIterator(int first) {
+            this.next = first;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (hasNext()) {
+                int index = next;
+                next = successor(index);
+                return (T) data[index];
+            } else
+                throw new NoSuchElementException("Iterator exhausted");
+        }
+
+        /**
+         * Index which comes after the given index in the traversal order
+         *
+         * @param index current index
+         * @return next index or -1 if traversal is complete
+         */
+        abstract int successor(int index);
+    }
+
+    /**
+     * Spliterator which traverses the tree in order and splits at subtrees
+     * Pending work is an optional single index followed by a whole subtree, splitting hands the pending index
+     * and the left subtree over to the new spliterator, same as the linked tree does
+     */
+    private final class BinaryTreeSpliterator implements Spliterator<T> {
+
+        private int first;
+        private int subRoot;
+        private int current;
+        private boolean started;
+        private long est;
+        private boolean exact;
+
+        BinaryTreeSpliterator(int first, int subRoot, long est, boolean exact) {
+            this.first = first;
+            this.subRoot = subRoot;
+            this.est = est;
+            this.exact = exact;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (started) {
+                return null;
+            }
+            // a subtree without left child can't be split, move its root into the pending index
+            while (first < 0 && subRoot >= 0 && !hasLeft(subRoot)) {
+                first = subRoot;
+                subRoot = hasRight(subRoot) ? right(subRoot) : -1;
+            }
+            if (subRoot < 0 || est < 2) {
+                return null;
+            }
+            long prefixEst = est >>> 1;
+            BinaryTreeSpliterator prefix = new BinaryTreeSpliterator(first, hasLeft(subRoot) ? left(subRoot) : -1, prefixEst, false);
+            first = subRoot;
+            subRoot = hasRight(subRoot) ? right(subRoot) : -1;
+            est -= prefixEst;
+            exact = false;
+            return prefix;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int index = nextIndex();
+            if (index >= 0) {
+                action.accept((T) data[index]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            for (int index = nextIndex(); index >= 0; index = nextIndex()) {
+                action.accept((T) data[index]);
+            }
+        }
+
+        private int nextIndex() {
+            int index;
+            if (first >= 0) {
+                index = first;
+                first = -1;
+            } else {
+                if (!started) {
+                    started = true;
+                    current = subRoot >= 0 ? leftMost(subRoot) : -1;
+                }
+                index = current;
+                if (index >= 0) {
+                    current = successor(index);
+                }
+            }
+            if (index >= 0 && est > 0) {
+                est--;
+            }
+            return index;
+        }
+
+        /**
+         * In order successor which never leaves the subtree this spliterator covers
+         */
+        private int successor(int index) {
+            if (hasRight(index)) {
+                return leftMost(right(index));
+            }
+            while (index != subRoot && (index & 1) == 0) {
+                index = parent(index);
+            }
+            return index == subRoot ? -1 : parent(index);
+        }
+
+        @Override
+        public long estimateSize() {
+            return est;
+        }
+
+        @Override
+        public int characteristics() {
+            return exact ? Spliterator.ORDERED | Spliterator.SIZED : Spliterator.ORDERED;
+        }
+    }
+
+    /**
+     * Add all the values provided
+     *
+     * @param values Values to be added
+     * @return reference to the tree
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only read, never stored or exposed
+    public final BinaryTree<T> addAll(T... values) {
+        ensureCapacity(nodesCount + values.length);
+        System.arraycopy(values, 0, data, nodesCount, values.length);
+        nodesCount += values.length;
+        return this;
+    }
+
+    /**
+     * Add a value to the tree, at the next free position of the last level
+     *
+     * @param value Value to be added
+     * @return Reference to the tree
+     */
+    @Override
+    public BinaryTree<T> add(T value) {
+        ensureCapacity(nodesCount + 1);
+        data[nodesCount++] = value;
+        return this;
+    }
+
+    /**
+     * Remove all the elements provided
+     *
+     * @param values Values to be removed
+     * @return Array of all the removed values
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only copied, never stored
+    public final T[] removeAll(T... values) {
+        T[] removed = Arrays.copyOf(values, values.length);
+        for (int i = 0; i < values.length; i++) {
+            removed[i] = remove(values[i]);
+        }
+        return removed;
+    }
+
+    /**
+     * Remove any single value from the tree, the last value (level order) takes its place
+     *
+     * @param value Value to be removed
+     * @return Removed element
+     */
+    @Override
+    public T remove(T value) {
+        int index = searchIndex(value);
+        if (index >= 0) {
+            int last = --nodesCount;
+            data[index] = data[last];
+            data[last] = null;
+        }
+        return value;
+    }
+
+    /**
+     * Searches any element in the tree
+     *
+     * @param value Value to be searched
+     * @return true/false ~ found/notfound
+     */
+    @Override
+    public boolean search(T value) {
+        return searchIndex(value) >= 0;
+    }
+
+    /**
+     * Searches a value in level order, the same order the linked tree searches in, so the same copy of a
+     * duplicate value gets removed
+     *
+     * @param value Value to be searched
+     * @return index of the value or -1
+     */
+    int searchIndex(T value) {
+        if (value != null) {
+            for (int index = 0; index < nodesCount; index++) {
+                if (value.equals(data[index])) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Value at the given level order position of the complete tree
+     *
+     * @param position level order position (root = 1)
+     * @return value at the position or null if the tree is not that big
+     */
+    @SuppressWarnings("unchecked")
+    T valueAt(int position) {
+        return position > 0 && position <= nodesCount ? (T) data[position - 1] : null;
+    }
+
+    /**
+     * Calculates and gives back the height of Binary tree
+     *
+     * @return height of the tree, -1 for an empty tree
+     */
+    public int getHeight() {
+        return 31 - Integer.numberOfLeadingZeros(nodesCount);
+    }
+
+    /**
+     * Get the number of values stored inside the tree at any point of time
+     *
+     * @return no of values
+     */
+    public int size() {
+        return nodesCount;
+    }
+
+    /**
+     * Iterator which is required to traverse all the elements in a tree In order
+     * elements will be iterated
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return inOrderIterator();
+    }
+
+    /**
+     * Level Order iterator, plain walk over the storage
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<T> levelOrderIterator() {
+        return new BinaryTreeIterator(nodesCount > 0 ? 0 : -1) {
+            @Override
+            int successor(int index) {
+                return index + 1 < nodesCount ? index + 1 : -1;
+            }
+        };
+    }
+
+    /**
+     * Pre Order iterator which is required to traverse all the elements in a tree
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<T> preOrderIterator() {
+        return new BinaryTreeIterator(nodesCount > 0 ? 0 : -1) {
+            @Override
+            int successor(int index) {
+                return preOrderSuccessor(index);
+            }
+        };
+    }
+
+    /**
+     * In Order iterator which is required to traverse all the elements in a tree
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<T> inOrderIterator() {
+        return new BinaryTreeIterator(nodesCount > 0 ? leftMost(0) : -1) {
+            @Override
+            int successor(int index) {
+                if (hasRight(index)) {
+                    return leftMost(right(index));
+                }
+                while (index > 0 && (index & 1) == 0) {
+                    index = parent(index);
+                }
+                return index > 0 ? parent(index) : -1;
+            }
+        };
+    }
+
+    /**
+     * Post Order iterator which is required to traverse all the elements in a tree
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<T> postOrderIterator() {
+        return new BinaryTreeIterator(nodesCount > 0 ? leftMost(0) : -1) {
+            @Override
+            int successor(int index) {
+                if (index == 0) {
+                    return -1;
+                }
+                // a complete tree has no node with a right child only, so the left most leaf comes first
+                if ((index & 1) == 1 && index + 1 < nodesCount) {
+                    return leftMost(index + 1);
+                }
+                return parent(index);
+            }
+        };
+    }
+
+    /**
+     * Reverse Order iterator which is required to traverse all the elements in a tree
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<T> reverseOrderIterator() {
+        return new BinaryTreeIterator(nodesCount > 0 ? rightMost(0) : -1) {
+            @Override
+            int successor(int index) {
+                if (hasLeft(index)) {
+                    return rightMost(left(index));
+                }
+                while (index > 0 && (index & 1) == 1) {
+                    index = parent(index);
+                }
+                return index > 0 ? parent(index) : -1;
+            }
+        };
+    }
+
+    /**
+     * Create a Java 1.8 stream object to traverse all the tree elements
+     *
+     * @return iterator object
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Create a parallel stream object to traverse all the tree elements, Work gets split at subtrees
+     *
+     * @return parallel stream object
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Spliterator which traverses the tree In order and splits at subtrees
+     *
+     * @return spliterator object
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BinaryTreeSpliterator(-1, nodesCount > 0 ? 0 : -1, nodesCount, true);
+    }
+
+    /**
+     * Print the tree data in all the traversal formats
+     */
+    public void printTrace() {
+        if (nodesCount > 0) {
+            System.out.println("\n_____________________________________________");
+            System.out.println(getClass().getSimpleName() + ":");
+            System.out.println("----------------------");
+            System.out.print("Level Order: ");
+            levelOrderIterator().forEachRemaining(value -> System.out.print(value + ", "));
+            System.out.print("\nPre Order: ");
+            preOrderIterator().forEachRemaining(value -> System.out.print(value + ", "));
+            System.out.print("\nIn Order: ");
+            inOrderIterator().forEachRemaining(value -> System.out.print(value + ", "));
+            System.out.print("\nPost Order: ");
+            postOrderIterator().forEachRemaining(value -> System.out.print(value + ", "));
+            System.out.println("\n_____________________________________________");
+        } else
+            System.out.println("NO DATA in Binary Tree");
+    }
+
+    /**
+     * Next index in pre order traversal, a value without left child is a leaf in a complete tree
+     *
+     * @param index current index
+     * @return next index or -1 if traversal is complete
+     */
+    int preOrderSuccessor(int index) {
+        if (hasLeft(index)) {
+            return left(index);
+        }
+        while (index > 0) {
+            if ((index & 1) == 1 && index + 1 < nodesCount) {
+                return index + 1;
+            }
+            index = parent(index);
+        }
+        return -1;
+    }
+
+    int leftMost(int index) {
+        while (hasLeft(index)) {
+            index = left(index);
+        }
+        return index;
+    }
+
+    int rightMost(int index) {
+        while (hasRight(index)) {
+            index = right(index);
+        }
+        return index;
+    }
+
+    static int left(int index) {
+        return (index << 1) + 1;
+    }
+
+    static int right(int index) {
+        return (index << 1) + 2;
+    }
+
+    static int parent(int index) {
+        return (index - 1) >>> 1;
+    }
+
+    boolean hasLeft(int index) {
+        return left(index) < nodesCount;
+    }
+
+    boolean hasRight(int index) {
+        return right(index) < nodesCount;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            if (capacity < 0 || capacity > MAX_STORAGE_CAPACITY) {
+                throw new IllegalOperationException("Tree can't grow beyond " + MAX_STORAGE_CAPACITY + " values");
+            }
+            int grown = data.length << 1;
+            if (grown < 0 || grown > MAX_STORAGE_CAPACITY) {
+                grown = MAX_STORAGE_CAPACITY;
+            }
+            data = Arrays.copyOf(data, Math.max(grown, capacity));
+        }
+    }
 }
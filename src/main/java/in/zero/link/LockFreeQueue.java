@@ -0,0 +1,180 @@
+package in.zero.link;
+
+import in.zero.IllegalOperationException;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Unbounded lock-free queue for any number of producer and consumer threads (Michael & Scott)
+ * The chain always starts with a dummy node, {@code head} points to it and {@code tail} to the last (or the
+ * second last) node. Enqueuers link behind the last node with a CAS on its {@code next} and then swing
+ * {@code tail}, dequeuers swing {@code head} to the first real node which then becomes the new dummy. Any
+ * thread which finds {@code tail} lagging behind moves it forward before retrying, so no thread ever waits
+ * for another one.
+ *
+ * @param <T> type of the values, null can't be stored
+ */
+public class LockFreeQueue<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeQueue, LockFreeQueueNode> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeQueue.class, LockFreeQueueNode.class, "head");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeQueue, LockFreeQueueNode> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeQueue.class, LockFreeQueueNode.class, "tail");
+
+    private volatile LockFreeQueueNode<T> head;
+
+    private volatile LockFreeQueueNode<T> tail;
+
+    /**
+     * Striped counter, updates from many threads don't fight over a single word
+     */
+    private final LongAdder count = new LongAdder();
+
+    public LockFreeQueue() {
+        head = tail = new LockFreeQueueNode<>(null);
+    }
+
+    public void enqueue(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null values can't be stored inside the queue");
+        }
+        LockFreeQueueNode<T> node = new LockFreeQueueNode<>(value);
+        count.increment();
+        append(node, node);
+    }
+
+    /**
+     * Enqueue all the values provided, the values are linked into a private chain first and then published with
+     * a single CAS so they stay contiguous in the queue
+     *
+     * @param values values to be enqueued in the given order
+     */
+    @SafeVarargs
+    public final void enqueueAll(T... values) {
+        if (values != null && values.length > 0) {
+            LockFreeQueueNode<T> first = null, last = null;
+            for (T value : values) {
+                if (value == null) {
+                    throw new IllegalArgumentException("null values can't be stored inside the queue");
+                }
+                LockFreeQueueNode<T> node = new LockFreeQueueNode<>(value);
+                if (first == null) {
+                    first = node;
+                } else {
+                    last.next = node;
+                }
+                last = node;
+            }
+            count.add(values.length);
+            append(first, last);
+        }
+    }
+
+    /**
+     * Links an already linked chain of nodes behind the last node of the queue
+     *
+     * @param first first node of the chain
+     * @param last  last node of the chain
+     */
+    @SuppressWarnings("unchecked")
+    private void append(LockFreeQueueNode<T> first, LockFreeQueueNode<T> last) {
+        while (true) {
+            LockFreeQueueNode<T> t = tail, next = t.next;
+            if (t == tail) {
+                if (next == null) {
+                    if (LockFreeQueueNode.NEXT.compareAndSet(t, null, first)) {
+                        TAIL.compareAndSet(this, t, last);
+                        return;
+                    }
+                } else {
+                    TAIL.compareAndSet(this, t, next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest value
+     *
+     * @return oldest value or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        while (true) {
+            LockFreeQueueNode<T> h = head, t = tail, first = h.next;
+            if (h == head) {
+                if (h == t) {
+                    if (first == null) {
+                        return null;
+                    }
+                    TAIL.compareAndSet(this, t, first);
+                } else {
+                    T value = first.data;
+                    if (HEAD.compareAndSet(this, h, first)) {
+                        // first is the new dummy, it must not keep the value reachable
+                        first.data = null;
+                        count.decrement();
+                        return value;
+                    }
+                }
+            }
+        }
+    }
+
+    public T dequeue() {
+        T value = poll();
+        if (value != null) {
+            return value;
+        } else {
+            throw new IllegalOperationException("`dequeue` operation is not allowed on empty queue");
+        }
+    }
+
+    public T peek() {
+        while (true) {
+            LockFreeQueueNode<T> h = head, first = h.next;
+            if (first == null) {
+                throw new IllegalOperationException("`peek` operation is not allowed on empty queue");
+            }
+            T value = first.data;
+            if (value != null && h == head) {
+                return value;
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Number of values in the queue, only a snapshot while other threads are enqueueing / dequeueing
+     *
+     * @return values in the queue
+     */
+    public int getCount() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, count.sum()));
+    }
+}
+
+class LockFreeQueueNode<T> {
+
+    @SuppressWarnings("rawtypes")
+    static final AtomicReferenceFieldUpdater<LockFreeQueueNode, LockFreeQueueNode> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeQueueNode.class, LockFreeQueueNode.class, "next");
+
+    /**
+     * Plain field, the constructor write is published by the CAS linking the node and a racing read of a
+     * cleared value is thrown away when the head CAS / recheck fails
+     */
+    T data;
+    volatile LockFreeQueueNode<T> next;
+
+    LockFreeQueueNode(T data) {
+        this.data = data;
+    }
+}
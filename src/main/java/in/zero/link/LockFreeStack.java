@@ -0,0 +1,197 @@
+package in.zero.link;
+
+import in.zero.IllegalOperationException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free stack for any number of threads (Treiber stack with an elimination back-off array)
+ * Push and pop swing {@code top} with a CAS. Every push links a freshly allocated node and nodes are never
+ * reused, so a node can't come back to the top while another thread still holds it and the CAS is free of the
+ * ABA problem. A thread whose CAS on {@code top} fails backs off into a random slot of a small elimination
+ * array where a push and a concurrent pop can meet and cancel out without touching {@code top} at all.
+ *
+ * @param <T> type of the values, null can't be stored
+ */
+public class LockFreeStack<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeStack, LockFreeStackNode> TOP =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeStack.class, LockFreeStackNode.class, "top");
+
+    /**
+     * How many times a pusher checks its elimination slot before taking its node back
+     */
+    private static final int ELIMINATION_SPINS = 64;
+
+    private volatile LockFreeStackNode<T> top;
+
+    private final AtomicReferenceArray<LockFreeStackNode<T>> elimination;
+
+    private final LongAdder count = new LongAdder();
+
+    public LockFreeStack() {
+        this(Math.min(Runtime.getRuntime().availableProcessors(), 16));
+    }
+
+    /**
+     * @param eliminationSlots size of the elimination array, 0 disables elimination
+     */
+    public LockFreeStack(int eliminationSlots) {
+        if (eliminationSlots >= 0) {
+            elimination = eliminationSlots > 0 ? new AtomicReferenceArray<>(eliminationSlots) : null;
+        } else {
+            throw new IllegalArgumentException("Elimination slots can't be negative");
+        }
+    }
+
+    public void push(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null values can't be stored inside the stack");
+        }
+        LockFreeStackNode<T> node = new LockFreeStackNode<>(value);
+        count.increment();
+        while (true) {
+            LockFreeStackNode<T> t = top;
+            node.prev = t;
+            if (TOP.compareAndSet(this, t, node) || (elimination != null && eliminatePush(node))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Push all the values provided, the values are linked into a private chain first and then published with a
+     * single CAS, the last value ends up on top
+     *
+     * @param values values to be pushed in the given order
+     */
+    @SafeVarargs
+    public final void pushAll(T... values) {
+        if (values != null && values.length > 0) {
+            LockFreeStackNode<T> bottom = null, chain = null;
+            for (T value : values) {
+                if (value == null) {
+                    throw new IllegalArgumentException("null values can't be stored inside the stack");
+                }
+                LockFreeStackNode<T> node = new LockFreeStackNode<>(value);
+                node.prev = chain;
+                chain = node;
+                if (bottom == null) {
+                    bottom = node;
+                }
+            }
+            count.add(values.length);
+            while (true) {
+                LockFreeStackNode<T> t = top;
+                bottom.prev = t;
+                if (TOP.compareAndSet(this, t, chain)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the top value
+     *
+     * @return top value or null if the stack is empty
+     */
+    public T tryPop() {
+        while (true) {
+            LockFreeStackNode<T> t = top;
+            if (t == null) {
+                return null;
+            }
+            if (TOP.compareAndSet(this, t, t.prev)) {
+                count.decrement();
+                return t.data;
+            }
+            if (elimination != null) {
+                LockFreeStackNode<T> eliminated = eliminatePop();
+                if (eliminated != null) {
+                    count.decrement();
+                    return eliminated.data;
+                }
+            }
+        }
+    }
+
+    public T pop() {
+        T value = tryPop();
+        if (value != null) {
+            return value;
+        } else {
+            throw new IllegalOperationException("`pop` operation is not allowed on empty stack");
+        }
+    }
+
+    public T peek() {
+        LockFreeStackNode<T> t = top;
+        if (t != null) {
+            return t.data;
+        } else {
+            throw new IllegalOperationException("`peek` operation is not allowed on empty stack");
+        }
+    }
+
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    /**
+     * Number of values in the stack, only a snapshot while other threads are pushing / popping
+     *
+     * @return values in the stack
+     */
+    public int getCount() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, count.sum()));
+    }
+
+    /**
+     * Parks the node in a random elimination slot for a short while hoping a popper takes it
+     *
+     * @param node node to be pushed
+     * @return true if a popper took the node, false if the push has to be retried on the stack
+     */
+    private boolean eliminatePush(LockFreeStackNode<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if (elimination.compareAndSet(slot, null, node)) {
+            for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+                if (elimination.get(slot) != node) {
+                    return true;
+                }
+            }
+            // nobody came, a failed take back means a popper grabbed the node in the meantime
+            return !elimination.compareAndSet(slot, node, null);
+        }
+        return false;
+    }
+
+    /**
+     * Takes a node parked by a concurrent pusher from a random elimination slot
+     *
+     * @return parked node or null if there was none
+     */
+    private LockFreeStackNode<T> eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        LockFreeStackNode<T> node = elimination.get(slot);
+        if (node != null && elimination.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+}
+
+class LockFreeStackNode<T> {
+
+    final T data;
+    LockFreeStackNode<T> prev;
+
+    LockFreeStackNode(T data) {
+        this.data = data;
+    }
+}
@@ -10,8 +10,46 @@ public class Queue<T> {
     private QueueNode<T> end;
     private int count;
 
+    /**
+     * Dequeued nodes kept for reuse (linked through {@code next}), at most {@code poolCapacity} of them
+     */
+    private QueueNode<T> pool;
+    private int poolSize;
+    private final int poolCapacity;
+
+    public Queue() {
+        this(0);
+    }
+
+    private Queue(int poolCapacity) {
+        if (poolCapacity >= 0) {
+            this.poolCapacity = poolCapacity;
+        } else {
+            throw new IllegalArgumentException("Node pool capacity can't be negative");
+        }
+    }
+
+    /**
+     * Queue keeping up to {@code poolCapacity} dequeued nodes for reuse by later enqueues, so a steady state of
+     * enqueue/dequeue allocates no nodes
+     *
+     * @param poolCapacity number of nodes kept for reuse, 0 disables the pool
+     * @return empty queue
+     */
+    public static <T> Queue<T> pooled(int poolCapacity) {
+        return new Queue<>(poolCapacity);
+    }
+
     public void enqueue(T data) {
-        QueueNode<T> node = new QueueNode<>(data);
+        QueueNode<T> node = pool;
+        if (node != null) {
+            pool = node.next;
+            poolSize--;
+            node.data = data;
+            node.next = null;
+        } else {
+            node = new QueueNode<>(data);
+        }
         if (end == null) {
             start = end = node;
         } else {
@@ -29,10 +67,17 @@ public class Queue<T> {
 
     public T dequeue() {
         if (start != null) {
-            T data = start.data;
-            start = start.next;
+            QueueNode<T> node = start;
+            T data = node.data;
+            start = node.next;
             if (start == null) end = null;
             count--;
+            if (poolSize < poolCapacity) {
+                node.data = null;
+                node.next = pool;
+                pool = node;
+                poolSize++;
+            }
             return data;
         } else {
             throw new IllegalOperationException("`dequeue` operation is not allowed on empty queue");
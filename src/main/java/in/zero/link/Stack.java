@@ -9,8 +9,47 @@ public class Stack<T> {
     private StackNode<T> top;
     private int count;
 
+    /**
+     * Popped nodes kept for reuse (linked through {@code prev}), at most {@code poolCapacity} of them
+     */
+    private StackNode<T> pool;
+    private int poolSize;
+    private final int poolCapacity;
+
+    public Stack() {
+        this(0);
+    }
+
+    private Stack(int poolCapacity) {
+        if (poolCapacity >= 0) {
+            this.poolCapacity = poolCapacity;
+        } else {
+            throw new IllegalArgumentException("Node pool capacity can't be negative");
+        }
+    }
+
+    /**
+     * Stack keeping up to {@code poolCapacity} popped nodes for reuse by later pushes, so a steady state of
+     * push/pop allocates no nodes
+     *
+     * @param poolCapacity number of nodes kept for reuse, 0 disables the pool
+     * @return empty stack
+     */
+    public static <T> Stack<T> pooled(int poolCapacity) {
+        return new Stack<>(poolCapacity);
+    }
+
     public void push(T value) {
-        top = new StackNode<>(value, top);
+        StackNode<T> node = pool;
+        if (node != null) {
+            pool = node.prev;
+            poolSize--;
+            node.data = value;
+            node.prev = top;
+            top = node;
+        } else {
+            top = new StackNode<>(value, top);
+        }
         count++;
     }
 
@@ -22,9 +61,16 @@ public class Stack<T> {
 
     public T pop() {
         if (top != null) {
-            T data = top.data;
-            top = top.prev;
+            StackNode<T> node = top;
+            T data = node.data;
+            top = node.prev;
             count--;
+            if (poolSize < poolCapacity) {
+                node.data = null;
+                node.prev = pool;
+                pool = node;
+                poolSize++;
+            }
             return data;
         } else {
             throw new IllegalOperationException("`pop` operation is not allowed on empty stack");
@@ -0,0 +1,177 @@
+package in.zero.link;
+
+import in.zero.IllegalOperationException;
+
+import java.util.Arrays;
+
+/**
+ * Unbounded queue backed by linked fixed size array segments
+ * Every node holds a whole segment of values instead of a single one, so the per value overhead is a single array
+ * slot and consecutive dequeues read adjacent memory. A fully consumed segment is kept as a spare for the next one
+ * the tail needs.
+ *
+ * @param <T> type of the values
+ */
+public class UnrolledQueue<T> {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64;
+
+    private final int segmentSize;
+
+    private QueueSegment start;
+
+    private QueueSegment end;
+
+    /**
+     * Last fully consumed segment, kept around for the next growth
+     */
+    private QueueSegment spare;
+
+    /**
+     * Index of the next value to dequeue inside {@code start}
+     */
+    private int startIndex;
+
+    /**
+     * Index of the next free slot inside {@code end}
+     */
+    private int endIndex;
+
+    private int count;
+
+    public UnrolledQueue() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    public UnrolledQueue(int segmentSize) {
+        if (segmentSize > 0) {
+            this.segmentSize = segmentSize;
+            this.start = this.end = new QueueSegment(segmentSize);
+        } else {
+            throw new IllegalArgumentException("Queue needs to have positive integer value as segment size");
+        }
+    }
+
+    public void enqueue(T data) {
+        if (endIndex == segmentSize) {
+            grow();
+        }
+        end.data[endIndex++] = data;
+        count++;
+    }
+
+    /**
+     * Enqueue all the values provided, segment by segment
+     *
+     * @param values values to be enqueued in the given order
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // only read, never stored or exposed
+    public final void enqueueAll(T... values) {
+        if (values != null) {
+            int from = 0;
+            while (from < values.length) {
+                if (endIndex == segmentSize) {
+                    grow();
+                }
+                int length = Math.min(values.length - from, segmentSize - endIndex);
+                System.arraycopy(values, from, end.data, endIndex, length);
+                endIndex += length;
+                count += length;
+                from += length;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T dequeue() {
+        if (count > 0) {
+            T data = (T) start.data[startIndex];
+            start.data[startIndex++] = null;
+            count--;
+            advance();
+            return data;
+        } else {
+            throw new IllegalOperationException("`dequeue` operation is not allowed on empty queue");
+        }
+    }
+
+    /**
+     * Dequeues values into the given array till either the queue is empty or the array is full
+     *
+     * @param target array to be filled from index 0
+     * @return number of values moved into the array
+     */
+    public int dequeueInto(T[] target) {
+        int moved = 0;
+        while (moved < target.length && count > 0) {
+            int available = start == end ? endIndex - startIndex : segmentSize - startIndex;
+            int length = Math.min(target.length - moved, available);
+            System.arraycopy(start.data, startIndex, target, moved, length);
+            Arrays.fill(start.data, startIndex, startIndex + length, null);
+            startIndex += length;
+            count -= length;
+            moved += length;
+            advance();
+        }
+        return moved;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (count > 0) {
+            return (T) start.data[startIndex];
+        } else {
+            throw new IllegalOperationException("`peek` operation is not allowed on empty queue");
+        }
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Links a segment after the end one, the spare one if there is any
+     */
+    private void grow() {
+        QueueSegment segment = spare != null ? spare : new QueueSegment(segmentSize);
+        spare = null;
+        end.next = segment;
+        end = segment;
+        endIndex = 0;
+    }
+
+    /**
+     * Keeps {@code start} pointing at the next value to dequeue, an emptied queue rewinds its only segment
+     * and a consumed start segment is unlinked and kept as the spare
+     */
+    private void advance() {
+        if (count == 0) {
+            startIndex = endIndex = 0;
+        } else if (startIndex == segmentSize) {
+            QueueSegment consumed = start;
+            start = consumed.next;
+            consumed.next = null;
+            spare = consumed;
+            startIndex = 0;
+        }
+    }
+}
+
+/**
+ * Fixed size storage of {@link UnrolledQueue}
+ */
+final class QueueSegment {
+
+    final Object[] data;
+
+    QueueSegment next;
+
+    QueueSegment(int size) {
+        this.data = new Object[size];
+    }
+}
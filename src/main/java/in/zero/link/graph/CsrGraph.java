@@ -0,0 +1,542 @@
+package in.zero.link.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Immutable compressed sparse row snapshot of an {@link UndirectedGraph}
+ * Every vertex gets a dense int id, the neighbours of vertex {@code id} are the ids
+ * {@code targets[offsets[id]] ... targets[offsets[id + 1] - 1]}. So an edge costs two ints instead of two
+ * boxed neighbour references and an {@code Edge} in a hash set, and traversals run over int arrays with no per step
+ * allocation. Ids and neighbour order follow the iteration order of the graph it was taken from, so every
+ * traversal gives the same result as on the mutable graph at the time of the snapshot.
+ *
+ * @param <T> Generic type
+ */
+public final class CsrGraph<T> {
+
+    /**
+     * Vertex by id
+     */
+    private final Object[] vertices;
+
+    /**
+     * Id by vertex
+     */
+    private final Map<T, Integer> ids;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    CsrGraph(Map<T, Integer> ids, Object[] vertices, int[] offsets, int[] targets) {
+        this.ids = ids;
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * @return number of vertices
+     */
+    public int vertexCount() {
+        return vertices.length;
+    }
+
+    /**
+     * Provides neighbours of any node/vertex
+     *
+     * @param src node under consideration
+     * @return all the unique neighbours
+     */
+    public List<T> getNeighbours(T src) {
+        Integer id = src != null ? ids.get(src) : null;
+        if (id != null) {
+            List<T> neighbours = new ArrayList<>(offsets[id + 1] - offsets[id]);
+            for (int edge = offsets[id]; edge < offsets[id + 1]; edge++) {
+                neighbours.add(vertex(targets[edge]));
+            }
+            return neighbours;
+        } else {
+            return new ArrayList<>(0);
+        }
+    }
+
+    /**
+     * Provides Depth first search of the graph, starting from the first vertex
+     *
+     * @return Depth traversal of graph
+     */
+    public List<T> depthFirstTraversal() {
+        return vertices.length > 0 ? depthFirstTraversal(vertex(0)) : new ArrayList<>(0);
+    }
+
+    /**
+     * Provides Depth first search of the graph, Vertices not reachable from the starting one follow component
+     * by component
+     *
+     * @param currNode Starting node
+     * @return Depth traversal of graph
+     */
+    public List<T> depthFirstTraversal(T currNode) {
+        Integer start = currNode != null ? ids.get(currNode) : null;
+        if (start != null) {
+            List<T> traversal = new ArrayList<>(vertices.length);
+            boolean[] visited = new boolean[vertices.length];
+            // vertices and the edge to resume from, a vertex is on the stack at most once
+            int[] stack = new int[vertices.length];
+            int[] resume = new int[vertices.length];
+            depthFirstTraversal(start, traversal, visited, stack, resume);
+            for (int id = 0; traversal.size() < vertices.length; id++) {
+                if (!visited[id]) {
+                    depthFirstTraversal(id, traversal, visited, stack, resume);
+                }
+            }
+            return traversal;
+        } else {
+            return new ArrayList<>(0);
+        }
+    }
+
+    private void depthFirstTraversal(int curr, List<T> traversal, boolean[] visited, int[] stack, int[] resume) {
+        int top = 0;
+        int edge = offsets[curr];
+        visited[curr] = true;
+        traversal.add(vertex(curr));
+        while (curr >= 0) {
+            int end = offsets[curr + 1];
+            while (edge < end && visited[targets[edge]]) edge++;
+            if (edge < end) {
+                stack[top] = curr;
+                resume[top++] = edge + 1;
+                curr = targets[edge];
+                edge = offsets[curr];
+                visited[curr] = true;
+                traversal.add(vertex(curr));
+            } else if (top > 0) {
+                curr = stack[--top];
+                edge = resume[top];
+            } else {
+                curr = -1;
+            }
+        }
+    }
+
+    /**
+     * Provides Breadth first traversal of the graph, starting from the first vertex
+     *
+     * @return Breadth traversal of graph
+     */
+    public List<T> breadthFirstTraversal() {
+        return vertices.length > 0 ? breadthFirstTraversal(vertex(0)) : new ArrayList<>(0);
+    }
+
+    /**
+     * Provides Breadth first traversal of the graph, Vertices not reachable from the starting one follow
+     * component by component
+     *
+     * @param currNode Starting node
+     * @return Breadth traversal of graph
+     */
+    public List<T> breadthFirstTraversal(T currNode) {
+        Integer start = currNode != null ? ids.get(currNode) : null;
+        if (start != null) {
+            boolean[] visited = new boolean[vertices.length];
+            // every vertex gets queued once, so one array of all the vertices serves as queue of every component
+            int[] queue = new int[vertices.length];
+            int tail = breadthFirstTraversal(start, queue, 0, visited);
+            for (int id = 0; tail < vertices.length; id++) {
+                if (!visited[id]) {
+                    tail = breadthFirstTraversal(id, queue, tail, visited);
+                }
+            }
+            List<T> traversal = new ArrayList<>(vertices.length);
+            for (int id : queue) {
+                traversal.add(vertex(id));
+            }
+            return traversal;
+        } else {
+            return new ArrayList<>(0);
+        }
+    }
+
+    /**
+     * Breadth first traversal expanding a whole level at a time on a {@link ForkJoinPool} of
+     * {@code parallelism} threads. Vertices not reachable from the starting one follow component by component.
+     * Small levels expand top down, every frontier vertex claiming its unvisited neighbours in an atomic visited
+     * bitmap. Once the edges out of the frontier outnumber a fraction of the edges out of the vertices not yet
+     * visited, levels expand bottom up instead, every unvisited vertex looking for a neighbour in the frontier
+     * and stopping at the first one, till the frontier shrinks again. Every level lists its vertices in the order
+     * of the snapshot ids, so the result is the same for any parallelism, though within a level it may differ
+     * from {@link #breadthFirstTraversal(Object)}.
+     *
+     * @param start       Starting node
+     * @param parallelism number of threads
+     * @return Breadth traversal of graph
+     * @see #parallelBreadthFirstTraversal(Object, ForkJoinPool)
+     */
+    public List<T> parallelBreadthFirstTraversal(T start, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Traversal needs to have positive integer value as parallelism");
+        }
+        if (start == null || !ids.containsKey(start)) {
+            return new ArrayList<>(0);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return parallelBreadthFirstTraversal(start, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Same traversal as {@link #parallelBreadthFirstTraversal(Object, int)} on a pool owned by the caller, so
+     * repeated traversals don't start and shut down threads every time. The pool is left running.
+     *
+     * @param start Starting node
+     * @param pool  pool running the level expansions
+     * @return Breadth traversal of graph
+     */
+    public List<T> parallelBreadthFirstTraversal(T start, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Traversal needs a pool to run on");
+        }
+        Integer first = start != null ? ids.get(start) : null;
+        if (first == null) {
+            return new ArrayList<>(0);
+        }
+        ParallelBreadthFirstSearch search = new ParallelBreadthFirstSearch(offsets, targets, pool);
+        search.traverse(first);
+        for (int id = 0; search.count < vertices.length; id++) {
+            if (!search.isVisited(id)) {
+                search.traverse(id);
+            }
+        }
+        List<T> traversal = new ArrayList<>(vertices.length);
+        for (int id : search.order) {
+            traversal.add(vertex(id));
+        }
+        return traversal;
+    }
+
+    private int breadthFirstTraversal(int start, int[] queue, int tail, boolean[] visited) {
+        int head = tail;
+        queue[tail++] = start;
+        visited[start] = true;
+        while (head < tail) {
+            int curr = queue[head++];
+            for (int edge = offsets[curr], end = offsets[curr + 1]; edge < end; edge++) {
+                int next = targets[edge];
+                if (!visited[next]) {
+                    visited[next] = true;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * All the shortest paths between two vertices
+     * A breadth first search from {@code dest} labels every vertex with its distance, stopping as soon as
+     * {@code src} is reached. The paths are then the walks from {@code src} which get one step closer to
+     * {@code dest} on every edge, listed in the same order {@link UndirectedGraph#shortestPath} lists them.
+     *
+     * @param src  Source node
+     * @param dest Destination node
+     * @return List of all shortest paths
+     */
+    public List<List<T>> shortestPath(T src, T dest) {
+        List<List<T>> paths = new ArrayList<>();
+        if (src == null || dest == null) {
+            return paths;
+        }
+        if (src.equals(dest)) {
+            paths.add(new ArrayList<>(Collections.singletonList(src)));
+            return paths;
+        }
+        Integer from = ids.get(src), to = ids.get(dest);
+        if (from == null || to == null) {
+            return paths;
+        }
+        int[] distance = distancesTo(to, from);
+        if (distance[from] < 0) {
+            return paths;
+        }
+
+        int length = distance[from] + 1;
+        int[] path = new int[length];
+        int[] resume = new int[length];
+        int depth = 0;
+        path[0] = from;
+        resume[0] = offsets[from];
+        while (depth >= 0) {
+            int curr = path[depth];
+            if (curr == to) {
+                List<T> found = new ArrayList<>(length);
+                for (int id : path) {
+                    found.add(vertex(id));
+                }
+                paths.add(found);
+                depth--;
+                continue;
+            }
+            int edge = resume[depth], end = offsets[curr + 1];
+            while (edge < end && distance[targets[edge]] != distance[curr] - 1) edge++;
+            if (edge < end) {
+                resume[depth++] = edge + 1;
+                path[depth] = targets[edge];
+                resume[depth] = offsets[targets[edge]];
+            } else {
+                depth--;
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Breadth first distances to {@code to}, -1 for the vertices not labelled before {@code stop} was reached.
+     * Every vertex closer than {@code stop} is labelled by then.
+     */
+    private int[] distancesTo(int to, int stop) {
+        int[] distance = new int[vertices.length];
+        Arrays.fill(distance, -1);
+        int[] queue = new int[vertices.length];
+        int head = 0, tail = 0;
+        queue[tail++] = to;
+        distance[to] = 0;
+        while (head < tail && distance[stop] < 0) {
+            int curr = queue[head++];
+            for (int edge = offsets[curr], end = offsets[curr + 1]; edge < end; edge++) {
+                int next = targets[edge];
+                if (distance[next] < 0) {
+                    distance[next] = distance[curr] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return distance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T vertex(int id) {
+        return (T) vertices[id];
+    }
+}
+
+/**
+ * Level synchronous, direction optimizing breadth first search over the arrays of a {@link CsrGraph}
+ */
+final class ParallelBreadthFirstSearch {
+
+    /**
+     * Switch to bottom up once the edges out of the frontier exceed the edges out of unvisited vertices / ALPHA
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * Stay top down while the frontier has fewer than vertices / BETA
+     */
+    private static final int BETA = 24;
+
+    /**
+     * Frontier vertices expanded by a single task
+     */
+    private static final int TOP_DOWN_GRAIN = 256;
+
+    /**
+     * Vertices scanned by a single bottom up task, a multiple of 64 so tasks never share a bitmap word
+     */
+    private static final int BOTTOM_UP_GRAIN = 64 * 64;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final ForkJoinPool pool;
+
+    private final AtomicLongArray visited;
+
+    /**
+     * Vertices in the order of visit, count of them visited so far
+     */
+    final int[] order;
+
+    int count;
+
+    /**
+     * Edges out of the vertices not yet visited
+     */
+    private long unexplored;
+
+    ParallelBreadthFirstSearch(int[] offsets, int[] targets, ForkJoinPool pool) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.pool = pool;
+        int vertices = offsets.length - 1;
+        this.visited = new AtomicLongArray((vertices + 63) >>> 6);
+        this.order = new int[vertices];
+        this.unexplored = targets.length;
+    }
+
+    boolean isVisited(int id) {
+        return (visited.get(id >>> 6) & 1L << id) != 0;
+    }
+
+    /**
+     * Visits the component of {@code start}, appending it level by level to {@link #order}
+     */
+    void traverse(int start) {
+        mark(start);
+        order[count++] = start;
+        int[] frontier = {start};
+        long frontierEdges = offsets[start + 1] - offsets[start];
+        unexplored -= frontierEdges;
+        boolean bottomUp = false;
+        while (frontier.length > 0) {
+            // a bottom up level scans every vertex, so it has to pay off against a large frontier too
+            boolean large = frontier.length >= order.length / BETA;
+            bottomUp = bottomUp ? large : large && frontierEdges > unexplored / ALPHA;
+            int[] next = bottomUp ? bottomUp(frontier) : topDown(frontier);
+            System.arraycopy(next, 0, order, count, next.length);
+            count += next.length;
+            // the vertices just visited are the next frontier, their edges leave the unexplored ones
+            frontierEdges = 0;
+            for (int id : next) {
+                frontierEdges += offsets[id + 1] - offsets[id];
+            }
+            unexplored -= frontierEdges;
+            frontier = next;
+        }
+    }
+
+    private int[] topDown(int[] frontier) {
+        int[] next = frontier.length <= TOP_DOWN_GRAIN
+                ? topDown(frontier, 0, frontier.length)
+                : pool.invoke(new Step(this, frontier, null, 0, frontier.length));
+        // tasks race for the vertices they claim, sorting makes the level independent of the race
+        Arrays.sort(next);
+        return next;
+    }
+
+    private int[] bottomUp(int[] frontier) {
+        long[] inFrontier = new long[visited.length()];
+        for (int id : frontier) {
+            inFrontier[id >>> 6] |= 1L << id;
+        }
+        return pool.invoke(new Step(this, null, inFrontier, 0, order.length));
+    }
+
+    /**
+     * Claims the unvisited neighbours of {@code frontier[from] ... frontier[to - 1]}
+     */
+    int[] topDown(int[] frontier, int from, int to) {
+        int[] claimed = new int[16];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            for (int edge = offsets[frontier[i]], end = offsets[frontier[i] + 1]; edge < end; edge++) {
+                int next = targets[edge];
+                if (!isVisited(next) && mark(next)) {
+                    if (size == claimed.length) claimed = Arrays.copyOf(claimed, size << 1);
+                    claimed[size++] = next;
+                }
+            }
+        }
+        return Arrays.copyOf(claimed, size);
+    }
+
+    /**
+     * Visits the vertices {@code from ... to - 1} having a neighbour in the frontier, in id order
+     */
+    int[] bottomUp(long[] inFrontier, int from, int to) {
+        int[] found = new int[16];
+        int size = 0;
+        for (int id = from; id < to; id++) {
+            if ((id & 63) == 0 && visited.get(id >>> 6) == -1L) {
+                id += 63;
+                continue;
+            }
+            if (isVisited(id)) continue;
+            for (int edge = offsets[id], end = offsets[id + 1]; edge < end; edge++) {
+                int prev = targets[edge];
+                if ((inFrontier[prev >>> 6] & 1L << prev) != 0) {
+                    mark(id);
+                    if (size == found.length) found = Arrays.copyOf(found, size << 1);
+                    found[size++] = id;
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    /**
+     * Sets the visited bit of a vertex
+     *
+     * @return true if this call set it
+     */
+    private boolean mark(int id) {
+        int word = id >>> 6;
+        long bit = 1L << id;
+        long current;
+        do {
+            current = visited.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+        } while (!visited.compareAndSet(word, current, current | bit));
+        return true;
+    }
+
+    /**
+     * Splits a top down frontier or a bottom up vertex range in halves till it's small enough for one task,
+     * results are joined in range order
+     */
+    static final class Step extends RecursiveTask<int[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ParallelBreadthFirstSearch search;
+
+        private final int[] frontier;
+
+        private final long[] inFrontier;
+
+        private final int from;
+
+        private final int to;
+
+        Step(ParallelBreadthFirstSearch search, int[] frontier, long[] inFrontier, int from, int to) {
+            this.search = search;
+            this.frontier = frontier;
+            this.inFrontier = inFrontier;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            int grain = frontier != null ? TOP_DOWN_GRAIN : BOTTOM_UP_GRAIN;
+            if (to - from <= grain) {
+                return frontier != null ? search.topDown(frontier, from, to) : search.bottomUp(inFrontier, from, to);
+            }
+            // bottom up halves stay aligned to bitmap words
+            int mid = frontier != null ? (from + to) >>> 1 : ((from + to) >>> 1) & ~63;
+            Step left = new Step(search, frontier, inFrontier, from, mid);
+            left.fork();
+            int[] right = new Step(search, frontier, inFrontier, mid, to).compute();
+            int[] result = left.join();
+            int[] joined = Arrays.copyOf(result, result.length + right.length);
+            System.arraycopy(right, 0, joined, result.length, right.length);
+            return joined;
+        }
+    }
+}
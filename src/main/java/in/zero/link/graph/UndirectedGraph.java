@@ -2,13 +2,17 @@ package in.zero.link.graph;
 
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import in.zero.array.Queue;
-import in.zero.array.Stack;
+import in.zero.array.ChunkedStack;
+import in.zero.array.IntStack;
+import in.zero.array.RingBufferQueue;
 
 /**
  * Generic type undirected Graph DS
+ * Not synchronised, Only {@link #add} modifies the graph, so any number of threads can read / traverse it as long
+ * as no thread is adding to it at the same time.
  *
  * @param <T> Generic type
  * @author rahul.kumawat
@@ -275,10 +279,20 @@ public class UndirectedGraph<T> {
 
     }
 
-    private final Map<T, Set<Edge<T>>> nodes;
+    /**
+     * Neighbours of every vertex in the order their edges were added, the only copy of the graph that reads look
+     * at, so repeated visits of a vertex don't allocate and reads never modify the graph
+     */
+    private final Map<T, List<T>> adjacency;
+
+    /**
+     * Every edge once, whichever direction it was added in, only {@link #add} looks at it to drop repeated edges
+     */
+    private final Set<Edge<T>> edges;
 
     public UndirectedGraph() {
-        nodes = new HashMap<>();
+        adjacency = new HashMap<>();
+        edges = new HashSet<>();
     }
 
     /**
@@ -289,39 +303,93 @@ public class UndirectedGraph<T> {
      */
     public void add(T src, T dest) {
         if (src != null && dest != null) {
-            nodes.computeIfAbsent(src, k -> new HashSet<>());
-            nodes.computeIfAbsent(dest, k -> new HashSet<>());
-            Edge<T> edge = new Edge<>(src, dest);
-            nodes.get(src).add(edge);
-            if (src != dest) nodes.get(dest).add(edge);
+            List<T> srcNeigh = adjacency.computeIfAbsent(src, k -> new ArrayList<>());
+            List<T> destNeigh = adjacency.computeIfAbsent(dest, k -> new ArrayList<>());
+            if (edges.add(new Edge<>(src, dest))) {
+                srcNeigh.add(dest);
+                if (!src.equals(dest)) {
+                    destNeigh.add(src);
+                }
+            }
         } else {
             throw new IllegalArgumentException("source and destination nodes must not be null");
         }
     }
 
+    /**
+     * Immutable compressed sparse row snapshot of the graph, later changes to this graph don't show up in it
+     * Vertex ids follow the key order of this graph and neighbours keep their order, so traversals over the
+     * snapshot give the same results as over this graph. Take the snapshot once for repeated traversals of an
+     * unchanged graph, or for the parallel {@link CsrGraph#parallelBreadthFirstTraversal(Object, int)}.
+     *
+     * @return snapshot of the graph
+     */
+    public CsrGraph<T> toCsr() {
+        int count = adjacency.size();
+        Map<T, Integer> ids = new HashMap<>(Math.max(16, (int) (count / .75f) + 1));
+        Object[] vertices = new Object[count];
+        int[] offsets = new int[count + 1];
+        int id = 0;
+        for (Map.Entry<T, List<T>> entry : adjacency.entrySet()) {
+            ids.put(entry.getKey(), id);
+            vertices[id] = entry.getKey();
+            offsets[id + 1] = offsets[id] + entry.getValue().size();
+            id++;
+        }
+        int[] targets = new int[offsets[count]];
+        int edge = 0;
+        for (List<T> neigh : adjacency.values()) {
+            for (T n : neigh) {
+                targets[edge++] = ids.get(n);
+            }
+        }
+        return new CsrGraph<>(ids, vertices, offsets, targets);
+    }
+
     /**
      * Provides string conversion for graph, in the form of edges
      *
      * @return
      */
     public String toString() {
-        return nodes.values().stream().flatMap(Collection::stream).map(Edge::toString).collect(Collectors.joining(","));
+        return edges.stream().map(Edge::toString).collect(Collectors.joining(","));
     }
 
     /**
-     * Provides neighbours of any node/vertex
+     * Provides neighbours of any node/vertex, in the order their edges were added
      *
      * @param src node under consideration
      * @return all the unique neighbours
      */
     public List<T> getNeighbours(T src) {
-        if (src != null && nodes.containsKey(src)) {
-            return nodes.get(src).stream().map(edge -> edge.src.equals(src) ? edge.dest : edge.src).collect(Collectors.toList());
-        } else {
-            return new ArrayList<>(0);
+        return new ArrayList<>(neighbours(src));
+    }
+
+    /**
+     * Performs the given action for every neighbour of any node/vertex, in the order of {@link #getNeighbours}
+     * without copying them
+     *
+     * @param src    node under consideration
+     * @param action action to be performed on every neighbour
+     */
+    public void forEachNeighbour(T src, Consumer<? super T> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Neighbour action must not be null");
+        }
+        List<T> neigh = neighbours(src);
+        for (int i = 0; i < neigh.size(); i++) {
+            action.accept(neigh.get(i));
         }
     }
 
+    /**
+     * Neighbours of a vertex, must not be modified or handed out
+     */
+    private List<T> neighbours(T src) {
+        List<T> neigh = src != null ? adjacency.get(src) : null;
+        return neigh != null ? neigh : Collections.emptyList();
+    }
+
     /**
      * Provides Depth first search of any graph, If any starting node is not given
      *
@@ -329,8 +397,8 @@ public class UndirectedGraph<T> {
      */
     public List<T> depthFirstTraversal() {
 
-        if (!nodes.isEmpty()) {
-            Optional<T> key = nodes.keySet().stream().findFirst();
+        if (!adjacency.isEmpty()) {
+            Optional<T> key = adjacency.keySet().stream().findFirst();
             return depthFirstTraversal(key.get());
         } else {
             return depthFirstTraversal(null);
@@ -344,13 +412,13 @@ public class UndirectedGraph<T> {
      * @return Depth traversal of graph
      */
     public List<T> depthFirstTraversal(T currNode) {
-        if (currNode != null && nodes.containsKey(currNode)) {
-            List<T> traversal = new ArrayList<>(nodes.size());
-            Set<T> visited = new HashSet<>(nodes.size());
+        if (currNode != null && adjacency.containsKey(currNode)) {
+            List<T> traversal = new ArrayList<>(adjacency.size());
+            Set<T> visited = new HashSet<>(adjacency.size());
             depthFirstTraversal(currNode, traversal, visited);
 
-            if (nodes.size() > visited.size()) {
-                for (T k : nodes.keySet()) {
+            if (adjacency.size() > visited.size()) {
+                for (T k : adjacency.keySet()) {
                     if (!visited.contains(k)) {
                         depthFirstTraversal(k, traversal, visited);
                     }
@@ -362,26 +430,27 @@ public class UndirectedGraph<T> {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private void depthFirstTraversal(T currNode, List<T> traversal, Set<T> visited) {
 
-        Stack<Object[]> stack = new Stack<>(nodes.size());
+        // vertices and the neighbour index to resume from are kept in two parallel stacks, no per step allocation
+        ChunkedStack<T> stack = new ChunkedStack<>();
+        IntStack indexes = new IntStack();
         traversal.add(currNode);
         visited.add(currNode);
         int neighIndex = -1;
         while (currNode != null) {
-            List<T> neigh = this.getNeighbours(currNode);
+            List<T> neigh = neighbours(currNode);
             while ((++neighIndex) < neigh.size() && visited.contains(neigh.get(neighIndex))) ;
             if (neighIndex < neigh.size()) {
-                stack.push(new Object[]{currNode, neighIndex});
+                stack.push(currNode);
+                indexes.push(neighIndex);
                 currNode = neigh.get(neighIndex);
                 visited.add(currNode);
                 traversal.add(currNode);
                 neighIndex = -1;
             } else if (!stack.isEmpty()) {
-                Object[] cache = stack.pop();
-                currNode = (T) cache[0];
-                neighIndex = (int) cache[1];
+                currNode = stack.pop();
+                neighIndex = indexes.pop();
             } else {
                 currNode = null;
             }
@@ -394,8 +463,8 @@ public class UndirectedGraph<T> {
      * @return Breadth traversal of graph
      */
     public List<T> breadthFirstTraversal() {
-        if (!nodes.isEmpty()) {
-            Optional<T> key = nodes.keySet().stream().findFirst();
+        if (!adjacency.isEmpty()) {
+            Optional<T> key = adjacency.keySet().stream().findFirst();
             return breadthFirstTraversal(key.get());
         } else {
             return breadthFirstTraversal(null);
@@ -409,13 +478,13 @@ public class UndirectedGraph<T> {
      * @return Breadth traversal of graph
      */
     public List<T> breadthFirstTraversal(T currNode) {
-        if (currNode != null && nodes.containsKey(currNode)) {
-            Set<T> visited = new HashSet<>(nodes.size());
-            List<T> traversal = new ArrayList<>(nodes.size());
+        if (currNode != null && adjacency.containsKey(currNode)) {
+            Set<T> visited = new HashSet<>(adjacency.size());
+            List<T> traversal = new ArrayList<>(adjacency.size());
             breadthFirstTraversal(currNode, traversal, visited);
 
-            if (nodes.size() > visited.size()) {
-                for (T k : nodes.keySet()) {
+            if (adjacency.size() > visited.size()) {
+                for (T k : adjacency.keySet()) {
                     if (!visited.contains(k)) {
                         breadthFirstTraversal(k, traversal, visited);
                     }
@@ -429,16 +498,17 @@ public class UndirectedGraph<T> {
 
     private void breadthFirstTraversal(T currNode, List<T> traversal, Set<T> visited) {
 
-        Queue<T> queue = new Queue<>(nodes.size());
+        RingBufferQueue<T> queue = new RingBufferQueue<>();
         queue.enqueue(currNode);
         visited.add(currNode);
         traversal.add(currNode);
 
         while (!queue.isEmpty()) {
-            for (T n : this.getNeighbours(queue.dequeue())) {
-                if (!visited.contains(n)) {
+            List<T> neigh = neighbours(queue.dequeue());
+            for (int i = 0; i < neigh.size(); i++) {
+                T n = neigh.get(i);
+                if (visited.add(n)) {
                     queue.enqueue(n);
-                    visited.add(n);
                     traversal.add(n);
                 }
             }
@@ -456,37 +526,37 @@ public class UndirectedGraph<T> {
     public List<List<T>> findPathIter(T src, T dest) {
 
         List<List<T>> paths = new ArrayList<>();
-        Stack<Object[]> stack = new Stack<>(nodes.size());
-        List<T> path = new ArrayList<>(nodes.size());
-        Set<T> visited = new HashSet<>(nodes.size());
+        ChunkedStack<T> stack = new ChunkedStack<>();
+        IntStack indexes = new IntStack();
+        List<T> path = new ArrayList<>(adjacency.size());
+        Set<T> visited = new HashSet<>(adjacency.size());
 
         path.add(src);
         visited.add(src);
         int neighIndex = -1;
 
         while (src != null) {
-            List<T> neigh = this.getNeighbours(src);
+            List<T> neigh = neighbours(src);
             while ((++neighIndex) < neigh.size() && visited.contains(neigh.get(neighIndex))) ;
             if (neighIndex < neigh.size()) {
-                stack.push(new Object[]{src, neighIndex});
+                stack.push(src);
+                indexes.push(neighIndex);
                 src = neigh.get(neighIndex);
                 path.add(src);
                 if (src.equals(dest)) {
                     paths.add(new ArrayList<>(path));
-                    path.remove(src);
-                    Object[] cache = stack.pop();
-                    src = (T) cache[0];
-                    neighIndex = (int) cache[1];
+                    path.remove(path.size() - 1);
+                    src = stack.pop();
+                    neighIndex = indexes.pop();
                 } else {
                     visited.add(src);
                     neighIndex = -1;
                 }
             } else if (!stack.isEmpty()) {
                 visited.remove(src);
-                path.remove(src);
-                Object[] cache = stack.pop();
-                src = (T) cache[0];
-                neighIndex = (int) cache[1];
+                path.remove(path.size() - 1);
+                src = stack.pop();
+                neighIndex = indexes.pop();
             } else {
                 src = null;
             }
@@ -505,7 +575,7 @@ public class UndirectedGraph<T> {
     public List<List<T>> findPathRecr(T src, T dest) {
         if (src != null && dest != null) {
             List<List<T>> paths = new ArrayList<>();
-            findPathRecur(src, dest, new HashSet<>(nodes.size()), new ArrayList<>(nodes.size()), paths);
+            findPathRecur(src, dest, new HashSet<>(adjacency.size()), new ArrayList<>(adjacency.size()), paths);
             return paths;
         }
         return new ArrayList<>(0);
@@ -516,37 +586,176 @@ public class UndirectedGraph<T> {
         if (currNode.equals(dest)) {
             path.add(currNode);
             paths.add(new ArrayList<>(path));
-            path.remove(currNode);
+            path.remove(path.size() - 1);
         } else {
             visited.add(currNode);
             path.add(currNode);
-            for (T node : this.getNeighbours(currNode)) {
-                if (!visited.contains(node)) {
-                    findPathRecur(node, dest, visited, path, paths);
+            List<T> neigh = neighbours(currNode);
+            for (int i = 0; i < neigh.size(); i++) {
+                if (!visited.contains(neigh.get(i))) {
+                    findPathRecur(neigh.get(i), dest, visited, path, paths);
                 }
             }
             visited.remove(currNode);
-            path.remove(currNode);
+            path.remove(path.size() - 1);
         }
     }
 
+    /**
+     * All the shortest paths between two vertices, Breadth first search from the destination
+     *
+     * @param src  Source node
+     * @param dest Destination node
+     * @return List of all shortest paths
+     * @see #shortestPath(Object, Object, boolean)
+     */
     public List<List<T>> shortestPath(T src, T dest) {
-        List<List<T>> allPaths = findPathRecr(src, dest);
-        List<List<T>> shortestPath = new ArrayList<>();
-        int shortestPathLength = Integer.MAX_VALUE;
-        for (List<T> path : allPaths) {
-            if (path.size() < shortestPathLength) {
-                if (!shortestPath.isEmpty()) {
-                    shortestPath = new ArrayList<>();
+        return shortestPath(src, dest, false);
+    }
+
+    /**
+     * All the shortest paths between two vertices
+     * Breadth first search labels the vertices with their distance, level by level, till the two ends meet. The
+     * labels form a predecessor DAG: every shortest path steps from a vertex to a neighbour one level further
+     * from {@code src} and one level closer to {@code dest}, so the paths are enumerated along those edges only,
+     * in the neighbour order of every vertex. Work is bound by the vertices closer than the distance between the
+     * two ends plus the number of shortest paths, instead of every simple path between them.
+     * Bidirectional search grows the smaller frontier out of the two ends, on graphs with high branching it
+     * visits roughly square root of the vertices a single search from the destination visits.
+     *
+     * @param src           Source node
+     * @param dest          Destination node
+     * @param bidirectional search from both ends instead of the destination only
+     * @return List of all shortest paths
+     */
+    public List<List<T>> shortestPath(T src, T dest, boolean bidirectional) {
+        if (src == null || dest == null) {
+            return new ArrayList<>(0);
+        }
+        if (src.equals(dest)) {
+            List<List<T>> paths = new ArrayList<>(1);
+            paths.add(new ArrayList<>(Collections.singletonList(src)));
+            return paths;
+        }
+        if (!adjacency.containsKey(src) || !adjacency.containsKey(dest)) {
+            return new ArrayList<>(0);
+        }
+
+        Map<T, Integer> toDest = new HashMap<>();
+        toDest.put(dest, 0);
+        List<T> destFrontier = Collections.singletonList(dest);
+        int destDepth = 0;
+
+        if (!bidirectional) {
+            while (!toDest.containsKey(src) && !destFrontier.isEmpty()) {
+                destFrontier = expand(destFrontier, toDest, ++destDepth);
+            }
+            return toDest.containsKey(src)
+                    ? collectPaths(src, Collections.singletonMap(src, 0), 0, toDest, destDepth)
+                    : new ArrayList<>(0);
+        }
+
+        Map<T, Integer> fromSrc = new HashMap<>();
+        fromSrc.put(src, 0);
+        List<T> srcFrontier = Collections.singletonList(src);
+        int srcDepth = 0;
+        // vertices labelled by both the searches, the first ones found lie on every shortest path at srcDepth
+        List<T> meeting = new ArrayList<>();
+        while (meeting.isEmpty() && !srcFrontier.isEmpty() && !destFrontier.isEmpty()) {
+            if (srcFrontier.size() <= destFrontier.size()) {
+                srcFrontier = expand(srcFrontier, fromSrc, ++srcDepth);
+                for (T node : srcFrontier) {
+                    if (toDest.containsKey(node)) meeting.add(node);
+                }
+            } else {
+                destFrontier = expand(destFrontier, toDest, ++destDepth);
+                for (T node : destFrontier) {
+                    if (fromSrc.containsKey(node)) meeting.add(node);
+                }
+            }
+        }
+        if (meeting.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        // source side labels lead to dead ends too, keep only the ones walking back from the meeting vertices
+        Map<T, Integer> onPath = new HashMap<>();
+        for (T node : meeting) {
+            onPath.put(node, srcDepth);
+        }
+        for (int depth = srcDepth; depth > 0; depth--) {
+            List<T> layer = meeting;
+            meeting = new ArrayList<>();
+            for (T node : layer) {
+                for (T n : neighbours(node)) {
+                    Integer distance = fromSrc.get(n);
+                    if (distance != null && distance == depth - 1 && onPath.putIfAbsent(n, depth - 1) == null) {
+                        meeting.add(n);
+                    }
                 }
-                shortestPath.add(path);
-                shortestPathLength = path.size();
-            } else if (path.size() == shortestPathLength) {
-                shortestPath.add(path);
             }
         }
+        return collectPaths(src, onPath, srcDepth, toDest, srcDepth + destDepth);
+    }
+
+    /**
+     * Labels the unlabelled neighbours of a frontier with {@code depth}
+     *
+     * @return next frontier
+     */
+    private List<T> expand(List<T> frontier, Map<T, Integer> distance, int depth) {
+        List<T> next = new ArrayList<>();
+        for (T node : frontier) {
+            for (T n : neighbours(node)) {
+                if (distance.putIfAbsent(n, depth) == null) {
+                    next.add(n);
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Paths of {@code length} edges from {@code src}, the vertex at position {@code i} of a path is either
+     * {@code fromSrc} labelled {@code i} when {@code i <= srcDepth} or {@code toDest} labelled {@code length - i}
+     */
+    private List<List<T>> collectPaths(T src, Map<T, Integer> fromSrc, int srcDepth, Map<T, Integer> toDest, int length) {
 
-        return shortestPath;
+        List<List<T>> paths = new ArrayList<>();
+        ChunkedStack<List<T>> stack = new ChunkedStack<>();
+        IntStack indexes = new IntStack();
+        List<T> path = new ArrayList<>(length + 1);
+        path.add(src);
+        List<T> neigh = neighbours(src);
+        int neighIndex = -1;
+
+        while (neigh != null) {
+            int position = path.size();
+            Map<T, Integer> labels = position <= srcDepth ? fromSrc : toDest;
+            int label = position <= srcDepth ? position : length - position;
+            Integer distance = null;
+            while ((++neighIndex) < neigh.size()
+                    && ((distance = labels.get(neigh.get(neighIndex))) == null || distance != label)) ;
+            if (neighIndex < neigh.size()) {
+                path.add(neigh.get(neighIndex));
+                if (position == length) {
+                    paths.add(new ArrayList<>(path));
+                    path.remove(position);
+                } else {
+                    stack.push(neigh);
+                    indexes.push(neighIndex);
+                    neigh = neighbours(path.get(position));
+                    neighIndex = -1;
+                }
+            } else if (!stack.isEmpty()) {
+                path.remove(position - 1);
+                neigh = stack.pop();
+                neighIndex = indexes.pop();
+            } else {
+                neigh = null;
+            }
+        }
+        return paths;
     }
 }
 
@@ -564,17 +773,39 @@ class Edge<T> {
         this.dest = dest;
     }
 
+    /**
+     * Same hash for both the directions of an edge, Each end is mixed on its own before the two get combined
+     * in a fixed order, so the bits of both the vertices spread over the whole hash
+     */
     @Override
     public int hashCode() {
-        return (src.hashCode() % 10000) * (dest.hashCode() % 10000);
+        int a = mix(src.hashCode());
+        int b = mix(dest.hashCode());
+        return mix(Math.min(a, b) * 31 + Math.max(a, b));
     }
 
+    /**
+     * Finalisation step of MurmurHash3
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * Edges are equal when they join equal vertices, in either direction
+     */
     @Override
-    @SuppressWarnings("unchecked")
     public boolean equals(Object other) {
-        if (other != null) {
-            Edge<T> sec = (Edge<T>) other;
-            return (this.src == sec.src && this.dest == sec.dest) || (this.dest == sec.src && this.src == sec.dest);
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof Edge) {
+            Edge<?> sec = (Edge<?>) other;
+            return (src.equals(sec.src) && dest.equals(sec.dest)) || (src.equals(sec.dest) && dest.equals(sec.src));
         }
         return false;
     }
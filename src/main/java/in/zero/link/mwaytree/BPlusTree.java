@@ -204,22 +204,14 @@ public class BPlusTree<T extends Comparable<T>> extends MwaySearchTree<T> {
     FoundNodeAtIndex<T> searchNode(T val) {
         if (val != null) {
             BPlusTreeNode<T> node = (BPlusTreeNode<T>) this.root;
-            int i, comp, till, childIndex = -1;
+            int i, childIndex = -1;
             while (node != null) {
-                for (i = 0, till = node.counter; i < till; i++) {
-                    comp = this.ORDER_MUL * node.values[i].compareTo(val);
-                    if (comp > 0) {
-                        childIndex = i;
-                        node = (BPlusTreeNode<T>) node.children[i];
-                        break;
-                    } else if (comp == 0) {
-                        return new FoundNodeAtIndex<>(node, i, childIndex);
-                    }
-                }
-                if (i == till) {
-                    childIndex = till;
-                    node = (BPlusTreeNode<T>) node.children[node.counter];
+                i = ArrayUtils.search(node.values, 0, node.counter, val, ORDER_MUL < 0);
+                if (i >= 0) {
+                    return new FoundNodeAtIndex<>(node, i, childIndex);
                 }
+                childIndex = -i - 1;
+                node = node.children[childIndex];
             }
         }
         return null;
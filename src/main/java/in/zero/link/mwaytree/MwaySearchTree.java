@@ -89,26 +89,17 @@ class MwaySearchTree<T extends Comparable<T>> implements Collection<T> {
     FoundNodeAtIndex<T> findEligibleNode(T value) {
         MwayNode<T> node = this.root;
         MwayNode<T> prev = node;
-        int i, till, foundIndex = 0, comp, childIndex = -1;
+        int i, foundIndex = 0, childIndex = -1;
         while (node != null) {
-            for (i = 0, till = node.counter; i < till; i++) {
-                comp = this.ORDER_MUL * node.values[i].compareTo(value);
-                if (comp > 0) {
-                    prev = node;
-                    childIndex = foundIndex;
-                    node = node.children[i];
-                    foundIndex = i;
-                    break;
-                } else if (comp == 0) {
-                    throw new IllegalArgumentException(this.getClass().getSimpleName() + " can't store duplicate values");
-                }
-            }
-            if (i == till) {
-                prev = node;
-                childIndex = foundIndex;
-                node = node.children[i];
-                foundIndex = i;
+            i = ArrayUtils.search(node.values, 0, node.counter, value, ORDER_MUL < 0);
+            if (i >= 0) {
+                throw new IllegalArgumentException(this.getClass().getSimpleName() + " can't store duplicate values");
             }
+            i = -i - 1;
+            prev = node;
+            childIndex = foundIndex;
+            node = node.children[i];
+            foundIndex = i;
         }
         return new FoundNodeAtIndex<>(prev, foundIndex, childIndex);
     }
@@ -201,30 +192,14 @@ class MwaySearchTree<T extends Comparable<T>> implements Collection<T> {
     FoundNodeAtIndex<T> searchNode(T val) {
         if (val != null) {
             MwayNode<T> node = this.root;
-            int i, comp, till, childIndex = -1;
+            int i, childIndex = -1;
             while (node != null) {
-                for (i = 0, till = node.counter; i < till; i++) {
-                    comp = this.ORDER_MUL * node.values[i].compareTo(val);
-                    if (comp > 0) {
-                        if (node.children[i] != null) {
-                            childIndex = i;
-                            node = node.children[i];
-                            break;
-                        } else {
-                            return null;
-                        }
-                    } else if (comp == 0) {
-                        return new FoundNodeAtIndex<>(node, i, childIndex);
-                    }
-                }
-                if (i == till) {
-                    if (node.children[i] != null) {
-                        childIndex = i;
-                        node = node.children[i];
-                    } else {
-                        return null;
-                    }
+                i = ArrayUtils.search(node.values, 0, node.counter, val, ORDER_MUL < 0);
+                if (i >= 0) {
+                    return new FoundNodeAtIndex<>(node, i, childIndex);
                 }
+                childIndex = -i - 1;
+                node = node.children[childIndex];
             }
         }
         return null;
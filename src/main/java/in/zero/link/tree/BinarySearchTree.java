@@ -1,5 +1,8 @@
 package in.zero.link.tree;
 
+import java.util.Comparator;
+import java.util.Spliterator;
+
 /**
  * A type of Binary tree where values get stored in sorted order Uses link list
  * as base for implementation undefined capacity to store values
@@ -175,6 +178,26 @@ public class BinarySearchTree<T extends Comparable<T>> extends BinaryTree<T> {
 		return orderMul == -1 ? "REVERSE" : "NORMAL";
 	}
 
+	/**
+	 * In order traversal of a BST is sorted and holds no duplicates or null values
+	 *
+	 * @return spliterator characteristics
+	 */
+	@Override
+	int spliteratorCharacteristics() {
+		return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL;
+	}
+
+	/**
+	 * Natural ordering (null) for a normal tree and reverse ordering for an inverse tree
+	 *
+	 * @return comparator of the In order sequence
+	 */
+	@Override
+	Comparator<? super T> spliteratorComparator() {
+		return orderMul == -1 ? Comparator.<T>reverseOrder() : null;
+	}
+
 	/**
 	 * Provides the height of the tree
 	 *
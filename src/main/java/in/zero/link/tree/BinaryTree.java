@@ -1,10 +1,14 @@
 package in.zero.link.tree;
 
 import in.zero.Collection;
+import in.zero.array.RingBufferQueue;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -22,30 +26,293 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
 
     /**
      * Custom iterator to iterate values of any Binary Tree
+     * Nodes are produced lazily, one per {@link #next()} call, by following the parent links of the current
+     * node. So creating an iterator costs O(height) and no node array gets materialized
      *
      * @param <T> Any object which we want to store inside a tree
      */
-    private static class BinaryTreeIterator<T> implements Iterator<T> {
+    private abstract static class BinaryTreeIterator<T> implements Iterator<T> {
 
-        private final BinaryTreeNode<T>[] nodes;
-        private int index = 0;
+        private BinaryTreeNode<T> next;
 
-        BinaryTreeIterator(BinaryTreeNode<T>[] nodes) {
-            this.nodes = nodes;
+        BinaryTreeIterator(BinaryTreeNode<T> first) {
+            this.next = first;
         }
 
         @Override
         public boolean hasNext() {
-            return index < nodes.length;
+            return next != null;
         }
 
         @Override
         public T next() {
-            if (hasNext())
-                return nodes[index++].data;
-            else
+            if (hasNext()) {
+                BinaryTreeNode<T> node = next;
+                next = successor(node);
+                return node.data;
+            } else
                 throw new NoSuchElementException("Iterator exhausted");
         }
+
+        /**
+         * Node which comes after the given node in the traversal order
+         *
+         * @param node current node
+         * @return next node or null if traversal is complete
+         */
+        abstract BinaryTreeNode<T> successor(BinaryTreeNode<T> node);
+    }
+
+    /**
+     * In order (left, node, right) iterator
+     *
+     * @param <T> Any object which we want to store inside a tree
+     */
+    private static class InOrderIterator<T> extends BinaryTreeIterator<T> {
+
+        InOrderIterator(BinaryTreeNode<T> root) {
+            super(leftMost(root));
+        }
+
+        @Override
+        BinaryTreeNode<T> successor(BinaryTreeNode<T> node) {
+            if (node.hasRight()) {
+                return leftMost(node.right);
+            }
+            BinaryTreeNode<T> parent = node.parent;
+            while (parent != null && parent.right == node) {
+                node = parent;
+                parent = parent.parent;
+            }
+            return parent;
+        }
+    }
+
+    /**
+     * Reverse order (right, node, left) iterator
+     *
+     * @param <T> Any object which we want to store inside a tree
+     */
+    private static class ReverseOrderIterator<T> extends BinaryTreeIterator<T> {
+
+        ReverseOrderIterator(BinaryTreeNode<T> root) {
+            super(rightMost(root));
+        }
+
+        @Override
+        BinaryTreeNode<T> successor(BinaryTreeNode<T> node) {
+            if (node.hasLeft()) {
+                return rightMost(node.left);
+            }
+            BinaryTreeNode<T> parent = node.parent;
+            while (parent != null && parent.left == node) {
+                node = parent;
+                parent = parent.parent;
+            }
+            return parent;
+        }
+    }
+
+    /**
+     * Pre order (node, left, right) iterator
+     *
+     * @param <T> Any object which we want to store inside a tree
+     */
+    private static class PreOrderIterator<T> extends BinaryTreeIterator<T> {
+
+        PreOrderIterator(BinaryTreeNode<T> root) {
+            super(root);
+        }
+
+        @Override
+        BinaryTreeNode<T> successor(BinaryTreeNode<T> node) {
+            return preOrderSuccessor(node);
+        }
+    }
+
+    /**
+     * Post order (left, right, node) iterator
+     *
+     * @param <T> Any object which we want to store inside a tree
+     */
+    private static class PostOrderIterator<T> extends BinaryTreeIterator<T> {
+
+        PostOrderIterator(BinaryTreeNode<T> root) {
+            super(firstPostOrder(root));
+        }
+
+        @Override
+        BinaryTreeNode<T> successor(BinaryTreeNode<T> node) {
+            BinaryTreeNode<T> parent = node.parent;
+            if (parent != null && parent.left == node && parent.hasRight()) {
+                return firstPostOrder(parent.right);
+            }
+            return parent;
+        }
+
+        private static <T> BinaryTreeNode<T> firstPostOrder(BinaryTreeNode<T> node) {
+            while (node != null && (node.hasLeft() || node.hasRight())) {
+                node = node.hasLeft() ? node.left : node.right;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Level order iterator, Keeps only the pending nodes of the current and next level in a ring buffer queue,
+     * so visiting a node doesn't allocate once the buffer has grown to the widest level
+     *
+     * @param <T> Any object which we want to store inside a tree
+     */
+    private static class LevelOrderIterator<T> extends BinaryTreeIterator<T> {
+
+        private final RingBufferQueue<BinaryTreeNode<T>> pending = new RingBufferQueue<>();
+
+        LevelOrderIterator(BinaryTreeNode<T> root) {
+            super(root);
+        }
+
+        @Override
+        BinaryTreeNode<T> successor(BinaryTreeNode<T> node) {
+            if (node.hasLeft()) {
+                pending.enqueue(node.left);
+            }
+            if (node.hasRight()) {
+                pending.enqueue(node.right);
+            }
+            return pending.isEmpty() ? null : pending.dequeue();
+        }
+    }
+
+    /**
+     * Spliterator which traverses the tree in order and splits at subtrees
+     * Pending work is described by an optional single node followed by a whole subtree, Splitting hands the
+     * pending node and the left subtree of the pending subtree over to the new spliterator and keeps the
+     * subtree root along with its right subtree
+     *
+     * @param <T> Any object which we want to store inside a tree
+     */
+    static final class BinaryTreeSpliterator<T> implements Spliterator<T> {
+
+        private BinaryTreeNode<T> first;
+        private BinaryTreeNode<T> subRoot;
+        private BinaryTreeNode<T> current;
+        private boolean started;
+        private long est;
+        private boolean exact;
+        private final int characteristics;
+        private final Comparator<? super T> comparator;
+
+        BinaryTreeSpliterator(BinaryTreeNode<T> first, BinaryTreeNode<T> subRoot, long est, boolean exact,
+                              int characteristics, Comparator<? super T> comparator) {
+            this.first = first;
+            this.subRoot = subRoot;
+            this.est = est;
+            this.exact = exact;
+            this.characteristics = characteristics;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (started) {
+                return null;
+            }
+            // a subtree without left child can't be split, move its root into the pending node
+            while (first == null && subRoot != null && !subRoot.hasLeft()) {
+                first = subRoot;
+                subRoot = subRoot.right;
+            }
+            if (subRoot == null || est < 2) {
+                return null;
+            }
+            long prefixEst = est >>> 1;
+            BinaryTreeSpliterator<T> prefix = new BinaryTreeSpliterator<>(first, subRoot.left, prefixEst, false,
+                    characteristics, comparator);
+            first = subRoot;
+            subRoot = subRoot.right;
+            est -= prefixEst;
+            exact = false;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            BinaryTreeNode<T> node = nextNode();
+            if (node != null) {
+                action.accept(node.data);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            for (BinaryTreeNode<T> node = nextNode(); node != null; node = nextNode()) {
+                action.accept(node.data);
+            }
+        }
+
+        private BinaryTreeNode<T> nextNode() {
+            BinaryTreeNode<T> node;
+            if (first != null) {
+                node = first;
+                first = null;
+            } else {
+                if (!started) {
+                    started = true;
+                    current = leftMost(subRoot);
+                }
+                node = current;
+                if (node != null) {
+                    current = successor(node);
+                }
+            }
+            if (node != null && est > 0) {
+                est--;
+            }
+            return node;
+        }
+
+        /**
+         * In order successor which never leaves the subtree this spliterator covers
+         *
+         * @param node current node
+         * @return next node or null if the subtree is exhausted
+         */
+        private BinaryTreeNode<T> successor(BinaryTreeNode<T> node) {
+            if (node.hasRight()) {
+                return leftMost(node.right);
+            }
+            while (node != subRoot && node.parent.right == node) {
+                node = node.parent;
+            }
+            return node == subRoot ? null : node.parent;
+        }
+
+        @Override
+        public long estimateSize() {
+            return est;
+        }
+
+        @Override
+        public int characteristics() {
+            return exact ? characteristics | Spliterator.SIZED : characteristics;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            if (hasCharacteristics(Spliterator.SORTED)) {
+                return comparator;
+            }
+            throw new IllegalStateException();
+        }
     }
 
     /**
@@ -75,15 +342,17 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
 
     BinaryTreeNode<T> addNode(T value) {
         BinaryTreeNode<T> newNode;
-        BinaryTreeNode<T> lastNode = getLastVacantNode();
-        if (lastNode != null) {
-            newNode = createNewNode(value, lastNode);
-            if (!lastNode.hasLeft())
-                lastNode.left = newNode;
+        if (root != null) {
+            // binary digits of the new position tell the path from root, parent sits at position / 2
+            final int position = nodesCount + 1;
+            BinaryTreeNode<T> parent = nodeAt(position >>> 1);
+            newNode = createNewNode(value, parent);
+            if ((position & 1) == 0)
+                parent.left = newNode;
             else
-                lastNode.right = newNode;
+                parent.right = newNode;
         } else {
-            newNode = new BinaryTreeNode<>(value);
+            newNode = createNewNode(value, null);
             root = newNode;
         }
         nodesCount++;
@@ -113,24 +382,51 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
 
         BinaryTreeNode<T> node = searchNode(value);
         if (node != null) {
-            if (node == root) {
+            BinaryTreeNode<T> lastNode = removeLastNode();
+            if (node != lastNode) {
+                node.data = lastNode.data;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Node at the given level order position of the complete tree, Starting from root every binary digit of
+     * the position after the leading one decides the direction (0 = left / 1 = right)
+     *
+     * @param position level order position (root = 1)
+     * @return node at the position or null if the tree is not that big
+     */
+    BinaryTreeNode<T> nodeAt(int position) {
+        BinaryTreeNode<T> node = this.root;
+        for (int bit = Integer.highestOneBit(position) >>> 1; bit > 0 && node != null; bit >>>= 1) {
+            node = (position & bit) == 0 ? node.left : node.right;
+        }
+        return node;
+    }
+
+    /**
+     * Detaches the last node (level order) of the complete tree
+     *
+     * @return detached node or null for an empty tree
+     */
+    BinaryTreeNode<T> removeLastNode() {
+        BinaryTreeNode<T> lastNode = nodeAt(nodesCount);
+        if (lastNode != null) {
+            BinaryTreeNode<T> parent = lastNode.parent;
+            if (parent == null) {
                 root = null;
-                nodesCount = 0;
             } else {
-                BinaryTreeNode<T>[] level = levelOrder(this.root);
-                BinaryTreeNode<T> lastNode = level[level.length - 1];
-                BinaryTreeNode<T> parent = lastNode.parent;
                 lastNode.parent = null;
                 if (parent.left == lastNode) {
                     parent.left = null;
                 } else {
                     parent.right = null;
                 }
-                node.data = lastNode.data;
-                nodesCount--;
             }
+            nodesCount--;
         }
-        return value;
+        return lastNode;
     }
 
     /**
@@ -150,7 +446,7 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return new BinaryTreeIterator<>(inOrder(this.root));
+        return new InOrderIterator<>(this.root);
     }
 
     /**
@@ -160,7 +456,7 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
      */
     @Override
     public Iterator<T> levelOrderIterator() {
-        return new BinaryTreeIterator<>(levelOrder(this.root));
+        return new LevelOrderIterator<>(this.root);
     }
 
     /**
@@ -170,7 +466,7 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
      */
     @Override
     public Iterator<T> preOrderIterator() {
-        return new BinaryTreeIterator<>(preOrder(this.root));
+        return new PreOrderIterator<>(this.root);
     }
 
     /**
@@ -180,7 +476,7 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
      */
     @Override
     public Iterator<T> inOrderIterator() {
-        return new BinaryTreeIterator<>(inOrder(this.root));
+        return new InOrderIterator<>(this.root);
     }
 
     /**
@@ -190,7 +486,7 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
      */
     @Override
     public Iterator<T> postOrderIterator() {
-        return new BinaryTreeIterator<>(postOrder(this.root));
+        return new PostOrderIterator<>(this.root);
     }
 
     /**
@@ -200,7 +496,7 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
      */
     @Override
     public Iterator<T> reverseOrderIterator() {
-        return new BinaryTreeIterator<>(reverseOrder(this.root));
+        return new ReverseOrderIterator<>(this.root);
     }
 
     /**
@@ -212,6 +508,44 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
         return StreamSupport.stream(spliterator(), false);
     }
 
+    /**
+     * Create a parallel stream object to traverse all the tree elements, Work gets split at subtrees
+     *
+     * @return parallel stream object
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Spliterator which traverses the tree In order and splits at subtrees
+     *
+     * @return spliterator object
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BinaryTreeSpliterator<>(null, this.root, nodesCount, true, spliteratorCharacteristics(),
+                spliteratorComparator());
+    }
+
+    /**
+     * Characteristics reported by the spliterator of this tree (SIZED is added by the spliterator itself)
+     *
+     * @return spliterator characteristics
+     */
+    int spliteratorCharacteristics() {
+        return Spliterator.ORDERED;
+    }
+
+    /**
+     * Comparator which describes the In order sequence of a sorted tree, null for natural ordering
+     *
+     * @return comparator
+     */
+    Comparator<? super T> spliteratorComparator() {
+        return null;
+    }
+
     /**
      * Searches any element in the tree
      *
@@ -223,26 +557,17 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
     }
 
     /**
-     * Searches a value and returns the respective node
+     * Searches a value and returns the respective node, the first one in level order when the value is stored
+     * more than once
      *
      * @param value Value to be searched
      * @return Found node
      */
-    @SuppressWarnings("unchecked")
     BinaryTreeNode<T> searchNode(T value) {
-        if (root != null && value != null) {
-            BinaryTreeNode<T>[] elements = new BinaryTreeNode[nodesCount];
-            elements[0] = root;
-            int curr = 1;
-            for (int i = 0; i < nodesCount; i++) {
-                if (elements[i].data.equals(value)) {
-                    return elements[i];
-                }
-                if (elements[i].hasLeft()) {
-                    elements[curr++] = elements[i].left;
-                }
-                if (elements[i].hasRight()) {
-                    elements[curr++] = elements[i].right;
+        if (value != null) {
+            for (BinaryTreeNode<T> node = root; node != null; node = levelOrderSuccessor(node)) {
+                if (value.equals(node.data)) {
+                    return node;
                 }
             }
         }
@@ -250,25 +575,51 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
     }
 
     /**
-     * Get the last vacant node where new value can be inserted
+     * Next node in level order traversal of a complete tree, found through parent links so no queue is needed
+     * Climbs while the node is a right child, crosses over to the right sibling of the subtree and comes down
+     * its left edge the same number of levels, or starts the next level from the root when the node was the
+     * last one of its level. Amortised O(1) per step.
      *
-     * @return Last vacant node
+     * @param node current node
+     * @return next node or null if traversal is complete
      */
-    @SuppressWarnings("unchecked")
-    private BinaryTreeNode<T> getLastVacantNode() {
-        if (root != null) {
-            BinaryTreeNode<T>[] elements = new BinaryTreeNode[nodesCount];
-            elements[0] = root;
-            int curr = 1;
-            for (int i = 0; i < nodesCount; i++) {
-                if (!elements[i].hasLeft() || !elements[i].hasRight()) {
-                    return elements[i];
-                } else {
-                    elements[curr++] = elements[i].left;
-                    elements[curr++] = elements[i].right;
-                }
+    static <T> BinaryTreeNode<T> levelOrderSuccessor(BinaryTreeNode<T> node) {
+        int depth = 0;
+        while (node.parent != null && node.parent.right == node) {
+            node = node.parent;
+            depth++;
+        }
+        if (node.parent == null) {
+            depth++;
+        } else {
+            node = node.parent.right;
+        }
+        for (; node != null && depth > 0; depth--) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    /**
+     * Next node in pre order traversal, found through parent links so no stack is needed
+     *
+     * @param node current node
+     * @return next node or null if traversal is complete
+     */
+    static <T> BinaryTreeNode<T> preOrderSuccessor(BinaryTreeNode<T> node) {
+        if (node.hasLeft()) {
+            return node.left;
+        }
+        if (node.hasRight()) {
+            return node.right;
+        }
+        BinaryTreeNode<T> parent = node.parent;
+        while (parent != null) {
+            if (parent.left == node && parent.hasRight()) {
+                return parent.right;
             }
-            return elements[curr - 1];
+            node = parent;
+            parent = parent.parent;
         }
         return null;
     }
@@ -435,6 +786,36 @@ public class BinaryTree<T> implements LinkBinaryTreeIterable<T>, Collection<T> {
         return null;
     }
 
+    /**
+     * Left most node of the subtree, first node in the in order traversal
+     *
+     * @param node root of the subtree
+     * @return left most node or null for an empty subtree
+     */
+    static <T> BinaryTreeNode<T> leftMost(BinaryTreeNode<T> node) {
+        if (node != null) {
+            while (node.hasLeft()) {
+                node = node.left;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Right most node of the subtree, first node in the reverse order traversal
+     *
+     * @param node root of the subtree
+     * @return right most node or null for an empty subtree
+     */
+    static <T> BinaryTreeNode<T> rightMost(BinaryTreeNode<T> node) {
+        if (node != null) {
+            while (node.hasRight()) {
+                node = node.right;
+            }
+        }
+        return node;
+    }
+
     /**
      * Creates a new node with provide values
      *
@@ -2,6 +2,8 @@ package in.zero.link.tree;
 
 import in.zero.IllegalOperationException;
 
+import java.util.Arrays;
+
 /**
  * Heap A Heap is a Complete binary Tree that meets heap Properties- Min Heap:
  * The element of each node is larger than or equal to the element at its
@@ -16,6 +18,42 @@ public class Heap<T extends Comparable<T>> extends BinaryTree<T> {
 		MIN, MAX
 	}
 
+	/**
+	 * Reference to a value inside the heap, follows the value as it moves between nodes so its priority can be
+	 * changed or the value can be deleted without searching for it
+	 *
+	 * @param <T> type of the value
+	 */
+	public static final class Handle<T extends Comparable<T>> {
+
+		private final Heap<T> heap;
+
+		HeapNode<T> node;
+
+		private Handle(Heap<T> heap, HeapNode<T> node) {
+			this.heap = heap;
+			this.node = node;
+		}
+
+		/**
+		 * Current value behind the handle
+		 *
+		 * @return value or null if the value is not inside the heap anymore
+		 */
+		public T get() {
+			return node != null ? node.data : null;
+		}
+
+		/**
+		 * Whether the value is still inside the heap
+		 *
+		 * @return true/false
+		 */
+		public boolean isValid() {
+			return node != null;
+		}
+	}
+
 	private Type type;
 
 	public Heap() {
@@ -26,6 +64,44 @@ public class Heap<T extends Comparable<T>> extends BinaryTree<T> {
 		this.type = type != null ? type : Type.MIN;
 	}
 
+	/**
+	 * Builds the heap out of the given values in linear time
+	 * 
+	 * @param values values to be stored
+	 * @param type   MIN/MAX
+	 */
+	public Heap(T[] values, Type type) {
+		this(type);
+		if (values != null) {
+			heapify(Arrays.asList(values));
+		}
+	}
+
+	/**
+	 * Builds a min heap out of the given values in linear time
+	 * 
+	 * @param values values to be stored
+	 * @return min heap
+	 */
+	public static <T extends Comparable<T>> Heap<T> of(java.util.Collection<? extends T> values) {
+		return of(values, Type.MIN);
+	}
+
+	/**
+	 * Builds a heap out of the given values in linear time
+	 * 
+	 * @param values values to be stored
+	 * @param type   MIN/MAX
+	 * @return heap
+	 */
+	public static <T extends Comparable<T>> Heap<T> of(java.util.Collection<? extends T> values, Type type) {
+		Heap<T> heap = new Heap<>(type);
+		if (values != null) {
+			heap.heapify(values);
+		}
+		return heap;
+	}
+
 	/**
 	 * Add value to the heap
 	 */
@@ -36,6 +112,172 @@ public class Heap<T extends Comparable<T>> extends BinaryTree<T> {
 		return this;
 	}
 
+	/**
+	 * Add value to the heap and get back a handle to it
+	 *
+	 * @param value value to be added
+	 * @return handle which can be used to change the priority of the value or delete it
+	 */
+	public Handle<T> insert(T value) {
+		if (value != null) {
+			HeapNode<T> newNode = (HeapNode<T>) super.addNode(value);
+			Handle<T> handle = new Handle<>(this, newNode);
+			newNode.handle = handle;
+			upHeapify(newNode);
+			return handle;
+		} else {
+			throw new IllegalArgumentException("null values can't be stored inside a heap");
+		}
+	}
+
+	/**
+	 * Replaces the value behind the handle with a smaller one
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @param value  new value, must not be greater than the current one
+	 */
+	public void decreaseKey(Handle<T> handle, T value) {
+		if (checkHandle(handle, value).data.compareTo(value) < 0) {
+			throw new IllegalArgumentException("New value is greater than the current value");
+		}
+		update(handle, value);
+	}
+
+	/**
+	 * Replaces the value behind the handle with a greater one
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @param value  new value, must not be smaller than the current one
+	 */
+	public void increaseKey(Handle<T> handle, T value) {
+		if (checkHandle(handle, value).data.compareTo(value) > 0) {
+			throw new IllegalArgumentException("New value is smaller than the current value");
+		}
+		update(handle, value);
+	}
+
+	/**
+	 * Replaces the value behind the handle and restores the heap order in O(log n)
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @param value  new value
+	 */
+	public void update(Handle<T> handle, T value) {
+		HeapNode<T> node = checkHandle(handle, value);
+		node.data = value;
+		if (upHeapify(node) == node) {
+			downHeapify(node);
+		}
+	}
+
+	/**
+	 * Deletes the value behind the handle in O(log n), the handle is not valid afterwards
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @return deleted value
+	 */
+	public T delete(Handle<T> handle) {
+		HeapNode<T> node = checkHandle(handle);
+		final T data = node.data;
+		invalidate(node);
+		HeapNode<T> lastNode = (HeapNode<T>) removeLastNode();
+		if (node != lastNode) {
+			moveData(lastNode, node);
+			if (upHeapify(node) == node) {
+				downHeapify(node);
+			}
+		}
+		return data;
+	}
+
+	/**
+	 * Validates the handle (and the new value if any) before any handle based operation
+	 *
+	 * @param handle handle to validate
+	 * @param value  new value for the handle, must not be null
+	 * @return node holding the value behind the handle
+	 */
+	private HeapNode<T> checkHandle(Handle<T> handle, T value) {
+		if (value == null) {
+			throw new IllegalArgumentException("null values can't be stored inside a heap");
+		}
+		return checkHandle(handle);
+	}
+
+	/**
+	 * Validates the handle before any handle based operation
+	 *
+	 * @param handle handle to validate
+	 * @return node holding the value behind the handle
+	 */
+	private HeapNode<T> checkHandle(Handle<T> handle) {
+		if (handle == null || handle.heap != this || handle.node == null) {
+			throw new IllegalOperationException("Handle doesn't belong to this heap or its value is already removed");
+		}
+		return handle.node;
+	}
+
+	/**
+	 * Add all the values provided, When the batch is at least as big as the heap the whole heap is rebuilt
+	 * bottom-up (O(n + k)) instead of up-heapifying every value one by one
+	 * 
+	 * @param values values to be added
+	 * @return reference to the heap
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Heap<T> addAll(T... values) {
+		if (values.length >= nodesCount) {
+			heapify(Arrays.asList(values));
+		} else {
+			for (T value : values) {
+				add(value);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Floyd's heap construction, Appends the values as new nodes in level order and then down-heapifies every
+	 * internal node starting from the last one up to the root
+	 * 
+	 * @param values values to be appended
+	 */
+	@SuppressWarnings("unchecked")
+	private void heapify(java.util.Collection<? extends T> values) {
+		for (T value : values) {
+			if (value == null) {
+				throw new IllegalArgumentException("null values can't be stored inside a heap");
+			}
+		}
+		final int total = nodesCount + values.size();
+		BinaryTreeNode<T>[] nodes = new BinaryTreeNode[total];
+		int count = 0;
+		if (root != null) {
+			System.arraycopy(levelOrder(root), 0, nodes, 0, nodesCount);
+			count = nodesCount;
+		}
+		for (T value : values) {
+			if (count == 0) {
+				root = createNewNode(value, null);
+				nodes[count++] = root;
+			} else {
+				// parent of level order index i sits at (i - 1) / 2, odd indexes are left children
+				BinaryTreeNode<T> parent = nodes[(count - 1) >>> 1];
+				BinaryTreeNode<T> node = createNewNode(value, parent);
+				if ((count & 1) == 1)
+					parent.left = node;
+				else
+					parent.right = node;
+				nodes[count++] = node;
+			}
+		}
+		nodesCount = total;
+		for (int i = (total >>> 1) - 1; i >= 0; i--) {
+			downHeapify(nodes[i]);
+		}
+	}
+
 	/**
 	 * Restricted operation
 	 */
@@ -49,35 +291,15 @@ public class Heap<T extends Comparable<T>> extends BinaryTree<T> {
 	 * 
 	 * @return popped out element
 	 */
-	@SuppressWarnings("unchecked")
 	public T remove() {
 		if (root != null) {
-			BinaryTreeNode<T> node = this.root;
-			final T data = node.data;
-			BinaryTreeNode<T>[] nodes = new BinaryTreeNode[nodesCount];
-			int counter = 1;
-			nodes[0] = node;
-			for (int i = 1; i < nodesCount && counter < nodesCount; i++) {
-				if (node.hasLeft())
-					nodes[counter++] = node.left;
-				if (node.hasRight())
-					nodes[counter++] = node.right;
-				node = nodes[i];
-			}
-			BinaryTreeNode<T> lastNode = nodes[nodesCount - 1];
-			if (this.root != lastNode) {
-				this.root.data = lastNode.data;
-				if (lastNode.parent.left == lastNode) {
-					lastNode.parent.left = null;
-				} else {
-					lastNode.parent.right = null;
-				}
-				lastNode.parent = null;
+			final T data = root.data;
+			invalidate((HeapNode<T>) root);
+			BinaryTreeNode<T> lastNode = removeLastNode();
+			if (this.root != null) {
+				moveData((HeapNode<T>) lastNode, (HeapNode<T>) root);
 				downHeapify(root);
-			} else {
-				this.root = null;
 			}
-			nodesCount--;
 			return data;
 		}
 		return null;
@@ -109,15 +331,15 @@ public class Heap<T extends Comparable<T>> extends BinaryTree<T> {
 	 * Upheapify after adding any new value to the heap
 	 * 
 	 * @param node node from which heapify operation will start
+	 * @return node where the value finally settled
 	 */
-	private void upHeapify(BinaryTreeNode<T> node) {
+	private BinaryTreeNode<T> upHeapify(BinaryTreeNode<T> node) {
 		while (node.parent != null && (type == Type.MAX ? (node.data.compareTo(node.parent.data) > 0)
 				: (node.data.compareTo(node.parent.data) < 0))) {
-			T data = node.data;
-			node.data = node.parent.data;
-			node.parent.data = data;
+			swapData(node, node.parent);
 			node = node.parent;
 		}
+		return node;
 	}
 
 	/**
@@ -161,27 +383,66 @@ public class Heap<T extends Comparable<T>> extends BinaryTree<T> {
 		T data = node1.data;
 		node1.data = node2.data;
 		node2.data = data;
+
+		HeapNode<T> heapNode1 = (HeapNode<T>) node1, heapNode2 = (HeapNode<T>) node2;
+		Handle<T> handle = heapNode1.handle;
+		heapNode1.handle = heapNode2.handle;
+		heapNode2.handle = handle;
+		if (heapNode1.handle != null) {
+			heapNode1.handle.node = heapNode1;
+		}
+		if (handle != null) {
+			handle.node = heapNode2;
+		}
+	}
+
+	/**
+	 * Moves data (and its handle) from one node to another
+	 * 
+	 * @param from node which gets vacated
+	 * @param to   node which receives the data
+	 */
+	private void moveData(HeapNode<T> from, HeapNode<T> to) {
+		to.data = from.data;
+		to.handle = from.handle;
+		if (to.handle != null) {
+			to.handle.node = to;
+		}
+	}
+
+	/**
+	 * Marks the handle of a node's value as removed from the heap
+	 * 
+	 * @param node node whose value leaves the heap
+	 */
+	private void invalidate(HeapNode<T> node) {
+		if (node.handle != null) {
+			node.handle.node = null;
+			node.handle = null;
+		}
+	}
+
+	/**
+	 * Creates heap nodes which can carry a handle
+	 */
+	@Override
+	HeapNode<T> createNewNode(T value, BinaryTreeNode<T> parent) {
+		HeapNode<T> newNode = new HeapNode<>(value);
+		newNode.parent = parent;
+		return newNode;
 	}
 
 	/**
 	 * Searches any values existence in the heap
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean search(final T value) {
-		BinaryTreeNode<T> node = this.root;
-		BinaryTreeNode<T>[] nodes = new BinaryTreeNode[nodesCount];
-		int counter = 1;
-		nodes[0] = node;
-		for (int i = 1; i <= nodesCount && counter <= nodesCount; i++) {
-			if (node.data.compareTo(value) == 0) {
-				return true;
+		if (value != null) {
+			for (BinaryTreeNode<T> node = this.root; node != null; node = preOrderSuccessor(node)) {
+				if (node.data.compareTo(value) == 0) {
+					return true;
+				}
 			}
-			if (node.hasLeft())
-				nodes[counter++] = node.left;
-			if (node.hasRight())
-				nodes[counter++] = node.right;
-			node = nodes[i];
 		}
 		return false;
 	}
@@ -195,3 +456,17 @@ public class Heap<T extends Comparable<T>> extends BinaryTree<T> {
 		return type.toString();
 	}
 }
+
+/**
+ * Node of the heap, knows the handle (if any was given out) of the value it holds
+ *
+ * @param <T> Comparable objects which can be stored
+ */
+class HeapNode<T extends Comparable<T>> extends BinaryTreeNode<T> {
+
+	Heap.Handle<T> handle;
+
+	HeapNode(T value) {
+		super(value);
+	}
+}
@@ -0,0 +1,444 @@
+package in.zero.link.tree;
+
+import in.zero.Collection;
+import in.zero.IllegalOperationException;
+import in.zero.link.tree.Heap.Type;
+
+/**
+ * Pairing Heap A heap ordered multi-way tree kept as child/sibling links, Every insert and meld is a single
+ * comparison that hangs one tree under the other's root, the real work is deferred to {@link #remove()} which
+ * pairs up the root's children in two passes (left to right, then right to left). Usage:--------------------
+ * - Priority queues which are frequently merged together or need their priorities changed
+ *
+ * @param <T> Comparable objects which can be stored
+ */
+public class PairingHeap<T extends Comparable<T>> implements Collection<T> {
+
+	/**
+	 * Reference to a value inside the heap, Stays usable after the heap is melded into another one
+	 *
+	 * @param <T> type of the value
+	 */
+	public static final class Handle<T extends Comparable<T>> {
+
+		T data;
+
+		Handle<T> child;
+
+		Handle<T> sibling;
+
+		/**
+		 * Left sibling, or the parent for the leftmost child
+		 */
+		Handle<T> prev;
+
+		Owner owner;
+
+		private Handle(T data, Owner owner) {
+			this.data = data;
+			this.owner = owner;
+		}
+
+		/**
+		 * Current value behind the handle
+		 *
+		 * @return value or null if the value is not inside the heap anymore
+		 */
+		public T get() {
+			return owner != null ? data : null;
+		}
+
+		/**
+		 * Whether the value is still inside a heap
+		 *
+		 * @return true/false
+		 */
+		public boolean isValid() {
+			return owner != null;
+		}
+	}
+
+	/**
+	 * Ownership token shared by all the handles of a heap, Melding forwards the token of the melded heap to the
+	 * token of the receiving heap, so handles find their current heap without being visited
+	 */
+	static final class Owner {
+		Owner forward;
+	}
+
+	private final Type type;
+
+	private final int orderMul;
+
+	private Owner owner = new Owner();
+
+	private Handle<T> root;
+
+	private int size;
+
+	public PairingHeap() {
+		this(Type.MIN);
+	}
+
+	public PairingHeap(Type type) {
+		this.type = type != null ? type : Type.MIN;
+		this.orderMul = this.type == Type.MAX ? -1 : 1;
+	}
+
+	/**
+	 * Add value to the heap
+	 *
+	 * @param value value to be added
+	 * @return reference to the heap
+	 */
+	@Override
+	public PairingHeap<T> add(T value) {
+		insert(value);
+		return this;
+	}
+
+	/**
+	 * Add all the values provided
+	 *
+	 * @param values values to be added
+	 * @return reference to the heap
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public PairingHeap<T> addAll(T... values) {
+		for (T value : values) {
+			insert(value);
+		}
+		return this;
+	}
+
+	/**
+	 * Add value to the heap in O(1) and get back a handle to it
+	 *
+	 * @param value value to be added
+	 * @return handle which can be used to change the priority of the value or delete it
+	 */
+	public Handle<T> insert(T value) {
+		if (value != null) {
+			Handle<T> node = new Handle<>(value, owner);
+			root = link(root, node);
+			size++;
+			return node;
+		} else {
+			throw new IllegalArgumentException("null values can't be stored inside a heap");
+		}
+	}
+
+	/**
+	 * Moves all the values of the other heap into this one in O(1), the other heap is left empty and its
+	 * handles now belong to this heap
+	 *
+	 * @param other heap of the same type
+	 * @return reference to the heap
+	 */
+	public PairingHeap<T> meld(PairingHeap<T> other) {
+		if (other == null || other == this) {
+			throw new IllegalArgumentException("Heap can't be melded with itself or null");
+		}
+		if (other.type != type) {
+			throw new IllegalArgumentException("Only heaps of the same type can be melded");
+		}
+		root = link(root, other.root);
+		size += other.size;
+		other.owner.forward = owner;
+		other.owner = new Owner();
+		other.root = null;
+		other.size = 0;
+		return this;
+	}
+
+	/**
+	 * Restricted operation
+	 */
+	@Override
+	public T remove(T value) {
+		throw new IllegalOperationException("Operation not supported for heaps");
+	}
+
+	/**
+	 * Restricted operation
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T[] removeAll(T... values) {
+		throw new IllegalOperationException("Operation not supported for heaps");
+	}
+
+	/**
+	 * Pop out the top element from the heap in amortized O(log n)
+	 *
+	 * @return popped out element or null if heap is empty
+	 */
+	public T remove() {
+		if (root != null) {
+			Handle<T> top = root;
+			root = mergePairs(top.child);
+			size--;
+			invalidate(top);
+			return top.data;
+		}
+		return null;
+	}
+
+	/**
+	 * Top element of the heap without removing it
+	 *
+	 * @return top element or null if heap is empty
+	 */
+	public T peek() {
+		return root != null ? root.data : null;
+	}
+
+	/**
+	 * Replaces the value behind the handle with a smaller one
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @param value  new value, must not be greater than the current one
+	 */
+	public void decreaseKey(Handle<T> handle, T value) {
+		if (checkHandle(handle, value).data.compareTo(value) < 0) {
+			throw new IllegalArgumentException("New value is greater than the current value");
+		}
+		update(handle, value);
+	}
+
+	/**
+	 * Replaces the value behind the handle with a greater one
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @param value  new value, must not be smaller than the current one
+	 */
+	public void increaseKey(Handle<T> handle, T value) {
+		if (checkHandle(handle, value).data.compareTo(value) > 0) {
+			throw new IllegalArgumentException("New value is smaller than the current value");
+		}
+		update(handle, value);
+	}
+
+	/**
+	 * Replaces the value behind the handle, A value moving towards the top only cuts its subtree and links it
+	 * with the root in O(1), a value moving away from the top also gives away its children in amortized
+	 * O(log n)
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @param value  new value
+	 */
+	public void update(Handle<T> handle, T value) {
+		Handle<T> node = checkHandle(handle, value);
+		final int direction = orderMul * value.compareTo(node.data);
+		node.data = value;
+		if (direction < 0) {
+			if (node != root) {
+				cut(node);
+				root = link(root, node);
+			}
+		} else if (direction > 0 && node.child != null) {
+			Handle<T> children = mergePairs(node.child);
+			node.child = null;
+			if (node != root) {
+				cut(node);
+				root = link(link(root, children), node);
+			} else {
+				root = link(children, node);
+			}
+		}
+	}
+
+	/**
+	 * Deletes the value behind the handle in amortized O(log n), the handle is not valid afterwards
+	 *
+	 * @param handle handle returned by {@link #insert}
+	 * @return deleted value
+	 */
+	public T delete(Handle<T> handle) {
+		Handle<T> node = checkHandle(handle);
+		if (node == root) {
+			return remove();
+		}
+		cut(node);
+		root = link(root, mergePairs(node.child));
+		size--;
+		invalidate(node);
+		return node.data;
+	}
+
+	/**
+	 * Searches any values existence in the heap
+	 *
+	 * @param value value to be searched
+	 * @return true/false ~ found/notfound
+	 */
+	@Override
+	public boolean search(T value) {
+		if (value != null) {
+			Handle<T> node = root;
+			while (node != null) {
+				if (node.data.compareTo(value) == 0) {
+					return true;
+				}
+				if (node.child != null) {
+					node = node.child;
+				} else {
+					while (node != null && node.sibling == null) {
+						node = parentOf(node);
+					}
+					node = node != null ? node.sibling : null;
+				}
+			}
+		}
+		return false;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns type of heap
+	 *
+	 * @return MIN/MAX
+	 */
+	public String heapType() {
+		return type.toString();
+	}
+
+	/**
+	 * Hangs the lower priority tree under the root of the other one
+	 *
+	 * @param first  root of a tree (may be null)
+	 * @param second root of a tree (may be null)
+	 * @return root of the linked tree
+	 */
+	private Handle<T> link(Handle<T> first, Handle<T> second) {
+		if (first == null) {
+			return second;
+		}
+		if (second == null) {
+			return first;
+		}
+		if (orderMul * second.data.compareTo(first.data) < 0) {
+			Handle<T> temp = first;
+			first = second;
+			second = temp;
+		}
+		second.prev = first;
+		second.sibling = first.child;
+		if (first.child != null) {
+			first.child.prev = second;
+		}
+		first.child = second;
+		first.sibling = null;
+		first.prev = null;
+		return first;
+	}
+
+	/**
+	 * Two pass pairing of a sibling list, links siblings pairwise left to right and then links the pairs right
+	 * to left into a single tree
+	 *
+	 * @param first leftmost sibling
+	 * @return root of the merged tree or null for an empty list
+	 */
+	private Handle<T> mergePairs(Handle<T> first) {
+		Handle<T> pairs = null;
+		while (first != null) {
+			Handle<T> second = first.sibling, merged;
+			if (second != null) {
+				Handle<T> rest = second.sibling;
+				first.sibling = second.sibling = null;
+				merged = link(first, second);
+				first = rest;
+			} else {
+				first.prev = null;
+				merged = first;
+				first = null;
+			}
+			// pairs are collected in reverse order so the second pass can walk them right to left
+			merged.sibling = pairs;
+			pairs = merged;
+		}
+		Handle<T> result = null;
+		while (pairs != null) {
+			Handle<T> next = pairs.sibling;
+			pairs.sibling = null;
+			result = link(result, pairs);
+			pairs = next;
+		}
+		return result;
+	}
+
+	/**
+	 * Detaches a non root node (with its subtree) from its parent
+	 *
+	 * @param node node to be detached
+	 */
+	private void cut(Handle<T> node) {
+		if (node.prev.child == node) {
+			node.prev.child = node.sibling;
+		} else {
+			node.prev.sibling = node.sibling;
+		}
+		if (node.sibling != null) {
+			node.sibling.prev = node.prev;
+		}
+		node.prev = null;
+		node.sibling = null;
+	}
+
+	private static <T extends Comparable<T>> Handle<T> parentOf(Handle<T> node) {
+		Handle<T> prev = node.prev;
+		while (prev != null && prev.child != node) {
+			node = prev;
+			prev = prev.prev;
+		}
+		return prev;
+	}
+
+	private void invalidate(Handle<T> node) {
+		node.owner = null;
+		node.child = null;
+		node.sibling = null;
+		node.prev = null;
+	}
+
+	private Handle<T> checkHandle(Handle<T> handle, T value) {
+		if (value == null) {
+			throw new IllegalArgumentException("null values can't be stored inside a heap");
+		}
+		return checkHandle(handle);
+	}
+
+	/**
+	 * Validates the handle before any handle based operation, following (and compressing) the ownership
+	 * forwarding left behind by melds
+	 *
+	 * @param handle handle to validate
+	 * @return node behind the handle
+	 */
+	private Handle<T> checkHandle(Handle<T> handle) {
+		if (handle != null && handle.owner != null) {
+			Owner current = handle.owner;
+			while (current.forward != null) {
+				current = current.forward;
+			}
+			for (Owner token = handle.owner, next; token != current; token = next) {
+				next = token.forward;
+				token.forward = current;
+			}
+			handle.owner = current;
+			if (current == owner) {
+				return handle;
+			}
+		}
+		throw new IllegalOperationException("Handle doesn't belong to this heap or its value is already removed");
+	}
+}
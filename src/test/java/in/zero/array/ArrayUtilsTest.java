@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,18 +55,139 @@ public class ArrayUtilsTest {
         ArrayUtils.copyRangeToAnotherArray(new Integer[]{-1, -2, -3, -4, -5}, 0, 5, data, 4, data.length);
         assertArrayEquals(data, new Integer[]{2, 9, 7, 0, -1, -2, -3, -4});
     }
-}
-
-
-
-
 
+    @Test
+    void primitiveShiftUnshiftTest() {
+        int[] ints = {4, 2, 9, 7, 3, 0, 1, 6, 8, 5};
+        assertEquals(3, ArrayUtils.shift(ints, 4));
+        assertArrayEquals(new int[]{4, 2, 9, 7, 0, 1, 6, 8, 5, 0}, ints);
+        assertEquals(0, ArrayUtils.shift(ints, 10), "Out of range shift must not remove anything");
+        ArrayUtils.unshift(ints, 0, -1);
+        assertArrayEquals(new int[]{-1, 4, 2, 9, 7, 0, 1, 6, 8, 5}, ints);
+
+        long[] longs = {1L, 2L, 3L, 4L};
+        assertEquals(2L, ArrayUtils.shift(longs, 1, 2));
+        assertArrayEquals(new long[]{1L, 3L, 0L, 4L}, longs);
+        ArrayUtils.unshift(longs, 1, 7L, 3);
+        assertArrayEquals(new long[]{1L, 7L, 3L, 0L}, longs);
+
+        double[] doubles = new double[4];
+        ArrayUtils.copyRangeToAnotherArray(new double[]{.5, 1.5, 2.5}, 1, 3, doubles, 2, 4);
+        assertArrayEquals(new double[]{0, 0, 1.5, 2.5}, doubles);
+    }
 
+    @Test
+    void bulkOperationsTest() {
+        Integer[] data = {2, 9, 7, 0, 1, null, null, null, null, null};
 
+        assertEquals(8, ArrayUtils.insertMany(data, 2, new Integer[]{5, 3, 4}, 5));
+        assertArrayEquals(new Integer[]{2, 9, 5, 3, 4, 7, 0, 1, null, null}, data);
 
+        assertEquals(5, ArrayUtils.removeRange(data, 1, 4, 8));
+        assertArrayEquals(new Integer[]{2, 4, 7, 0, 1, null, null, null, null, null}, data);
 
+        ArrayUtils.move(data, 0, 2, 5);
+        assertArrayEquals(new Integer[]{2, 4, 2, 4, 7, 0, 1, null, null, null}, data);
 
+        ArrayUtils.fill(data, 7, 10, -1);
+        assertArrayEquals(new Integer[]{2, 4, 2, 4, 7, 0, 1, -1, -1, -1}, data);
 
+        long[] longs = {1L, 2L, 3L, 0L, 0L};
+        assertEquals(5, ArrayUtils.insertMany(longs, 3, new long[]{4L, 5L}, 3));
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L, 5L}, longs);
+        assertEquals(1, ArrayUtils.removeRange(longs, 0, 4, 5));
+        assertArrayEquals(new long[]{5L, 0L, 0L, 0L, 0L}, longs);
 
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.insertMany(new int[4], 0, new int[3], 2), "Insert overflowing the array must throw");
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.insertMany(new int[4], 3, new int[1], 2), "Insert past the held values must throw");
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.removeRange(new double[4], 2, 1, 3), "Reversed range must throw");
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.move(new Integer[4], 1, 2, 3), "Move past the array end must throw");
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.fill(new long[4], -1, 2, 1L), "Negative range start must throw");
+    }
 
+    @Test
+    void matchesElementWiseCopies() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2000; round++) {
+            int length = 1 + random.nextInt(16);
+            Integer[] base = new Integer[length];
+            Arrays.setAll(base, i -> random.nextInt(100));
+            int a = random.nextInt(length), b = random.nextInt(length);
+
+            Integer[] expected = base.clone(), actual = base.clone();
+            int removal = Math.min(a, b), last = Math.max(a, b);
+            Integer removed = expected[removal];
+            for (int i = removal; i < last; i++) expected[i] = expected[i + 1];
+            expected[last] = null;
+            assertEquals(removed, ArrayUtils.shift(actual, removal, last));
+            assertArrayEquals(expected, actual, "Shift differs from the element wise copy");
+
+            expected = base.clone();
+            actual = base.clone();
+            for (int i = last; i > removal; i--) expected[i] = expected[i - 1];
+            expected[removal] = -1;
+            ArrayUtils.unshift(actual, removal, -1, last);
+            assertArrayEquals(expected, actual, "Unshift differs from the element wise copy");
+
+            Integer[] source = new Integer[1 + random.nextInt(16)];
+            Arrays.setAll(source, i -> random.nextInt(100));
+            int cfStart = random.nextInt(source.length), cfEnd = cfStart + 1 + random.nextInt(source.length - cfStart);
+            int ctStart = random.nextInt(length), ctEnd = ctStart + 1 + random.nextInt(length - ctStart);
+            expected = base.clone();
+            actual = base.clone();
+            for (int i = cfStart, j = ctStart; i < cfEnd && j < ctEnd; j++, i++) expected[j] = source[i];
+            ArrayUtils.copyRangeToAnotherArray(source, cfStart, cfEnd, actual, ctStart, ctEnd);
+            assertArrayEquals(expected, actual, "Range copy differs from the element wise copy");
+        }
+    }
 
+    @Test
+    void sortedSearchTest() {
+        Random random = new Random(11);
+        for (int round = 0; round < 3000; round++) {
+            boolean inverse = random.nextBoolean();
+            int length = random.nextInt(64);
+            int[] ints = random.ints(length, -500, 500).distinct().sorted().toArray();
+            if (inverse) {
+                for (int i = 0, j = ints.length - 1; i < j; i++, j--) {
+                    int temp = ints[i];
+                    ints[i] = ints[j];
+                    ints[j] = temp;
+                }
+            }
+            long[] longs = Arrays.stream(ints).asLongStream().map(v -> v * 1_000_000_007L).toArray();
+            double[] doubles = Arrays.stream(ints).asDoubleStream().map(v -> v / 8).toArray();
+            Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+            int from = ints.length == 0 ? 0 : random.nextInt(ints.length);
+            int to = from + random.nextInt(ints.length - from + 1);
+            int key = random.nextInt(1100) - 550;
+
+            int expected = from;
+            while (expected < to && (inverse ? ints[expected] > key : ints[expected] < key)) expected++;
+            if (expected == to || ints[expected] != key) expected = -expected - 1;
+
+            assertEquals(expected, ArrayUtils.linearSearch(boxed, from, to, key, inverse), "Linear search over objects");
+            assertEquals(expected, ArrayUtils.binarySearch(boxed, from, to, key, inverse), "Binary search over objects");
+            assertEquals(expected, ArrayUtils.branchlessBinarySearch(boxed, from, to, key, inverse), "Branchless search over objects");
+            assertEquals(expected, ArrayUtils.exponentialSearch(boxed, from, to, key, inverse), "Exponential search over objects");
+            assertEquals(expected, ArrayUtils.search(boxed, from, to, key, inverse), "Search over objects");
+
+            assertEquals(expected, ArrayUtils.linearSearch(ints, from, to, key, inverse), "Linear search over ints");
+            assertEquals(expected, ArrayUtils.binarySearch(ints, from, to, key, inverse), "Binary search over ints");
+            assertEquals(expected, ArrayUtils.branchlessBinarySearch(ints, from, to, key, inverse), "Branchless search over ints");
+            assertEquals(expected, ArrayUtils.exponentialSearch(ints, from, to, key, inverse), "Exponential search over ints");
+            assertEquals(expected, ArrayUtils.interpolationSearch(ints, from, to, key, inverse), "Interpolation search over ints");
+
+            assertEquals(expected, ArrayUtils.binarySearch(longs, from, to, key * 1_000_000_007L, inverse), "Binary search over longs");
+            assertEquals(expected, ArrayUtils.branchlessBinarySearch(longs, from, to, key * 1_000_000_007L, inverse), "Branchless search over longs");
+            assertEquals(expected, ArrayUtils.exponentialSearch(longs, from, to, key * 1_000_000_007L, inverse), "Exponential search over longs");
+            assertEquals(expected, ArrayUtils.interpolationSearch(longs, from, to, key * 1_000_000_007L, inverse), "Interpolation search over longs");
+
+            assertEquals(expected, ArrayUtils.search(doubles, from, to, key / 8d, inverse), "Search over doubles");
+            assertEquals(expected, ArrayUtils.branchlessBinarySearch(doubles, from, to, key / 8d, inverse), "Branchless search over doubles");
+            assertEquals(expected, ArrayUtils.interpolationSearch(doubles, from, to, key / 8d, inverse), "Interpolation search over doubles");
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.binarySearch(new int[4], 2, 5, 1, false), "Search past the array end must throw");
+    }
+}
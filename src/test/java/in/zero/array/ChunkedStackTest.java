@@ -0,0 +1,85 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedStackTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testStackOperations() {
+        ChunkedStack<Integer> stack = new ChunkedStack<>(4);
+
+        assertTrue(stack.isEmpty(), "Stack should be empty at stack creation");
+
+        Arrays.stream(testData).forEach(stack::push);
+
+        assertFalse(stack.isEmpty(), "Stack should not be empty after stack population");
+        assertEquals(testData.length, stack.size(), "Stack data count not matching");
+        assertEquals(35, stack.peek(), "Peek method does not works for stack");
+        Arrays.stream(ArrayUtils.reverseCopy(testData, Integer.class)).forEach(elem -> {
+            assertEquals(elem, stack.peek(), "Stack peek not working across chunks");
+            assertEquals(elem, stack.pop(), "Stack pop not working");
+        });
+
+        assertTrue(stack.isEmpty(), "Stack should be empty after stack data removal");
+
+        stack.push(0);
+        stack.pushAll(testData);
+        assertEquals(testData.length + 1, stack.size(), "Push all should add all the elements to the stack");
+
+        Integer[] popped = new Integer[6];
+        assertEquals(6, stack.popInto(popped), "Pop into must stop when the array is full");
+        assertArrayEquals(new Integer[]{35, 71, 73, 33, 5, 21}, popped, "Pop into not keeping the stack order");
+        assertEquals(8, stack.popInto(new Integer[20]), "Pop into must stop when the stack is empty");
+        assertTrue(stack.isEmpty(), "Stack should be empty after pop into");
+    }
+
+    @Test
+    void randomOperations() {
+        ChunkedStack<Integer> stack = new ChunkedStack<>(8);
+        ArrayDeque<Integer> model = new ArrayDeque<>();
+        Random random = new Random(5);
+
+        for (int round = 0; round < 5000; round++) {
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                Integer[] batch = new Integer[random.nextInt(20)];
+                Arrays.setAll(batch, i -> random.nextInt());
+                stack.pushAll(batch);
+                for (Integer value : batch) {
+                    model.push(value);
+                }
+            } else if (operation == 1) {
+                Integer[] target = new Integer[random.nextInt(20)];
+                int count = stack.popInto(target);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(model.pop(), target[i], "Popped values not in stack order");
+                }
+            } else if (operation == 2 && !model.isEmpty()) {
+                assertEquals(model.pop(), stack.pop(), "Popped value not in stack order");
+            } else {
+                int value = random.nextInt();
+                stack.push(value);
+                model.push(value);
+            }
+            assertEquals(model.size(), stack.size(), "Stack size not matching");
+        }
+    }
+
+    @Test
+    void negativeTests() {
+        ChunkedStack<Integer> stack = new ChunkedStack<>();
+
+        assertThrows(IllegalOperationException.class, stack::pop, "Empty stack must throw exception");
+        assertThrows(IllegalOperationException.class, stack::peek, "Empty stack must throw exception");
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedStack<Integer>(0), "Stack allowing non positive chunk size");
+    }
+}
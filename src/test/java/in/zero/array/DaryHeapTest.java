@@ -0,0 +1,76 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+import in.zero.link.tree.Heap.Type;
+import in.zero.utils.Sequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DaryHeapTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void metadata() {
+        DaryHeap<Integer> heap = new DaryHeap<>(4, Type.MAX);
+
+        assertTrue(heap.isEmpty(), "Heap should be empty at heap creation");
+        assertNull(heap.peek(), "Peek must return null for an empty heap");
+        assertNull(heap.remove(), "Remove must return null for an empty heap");
+
+        heap.addAll(testData);
+
+        assertEquals(testData.length, heap.size(), "Value count for Heap does not matches");
+        assertEquals(4, heap.arity(), "Arity doesn't match for Heap");
+        assertEquals("MAX", heap.heapType(), "Sorting order doesn't match for Heap");
+        assertEquals(73, heap.peek(), "Peek not returning the top of the Heap");
+
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeap<Integer>(3), "Heap allowing arity which is not a power of two");
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeap<Integer>(1), "Heap allowing arity below two");
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeap<Integer>(2, Type.MIN, 0), "Heap allowing non positive capacity");
+        assertThrows(IllegalArgumentException.class, () -> heap.add(null), "Heap allowing null values");
+        assertThrows(IllegalOperationException.class, () -> heap.remove(10), "Heap allowing to remove specific item");
+    }
+
+    @Test
+    void searchElements() {
+        DaryHeap<Integer> heap = new DaryHeap<>(8);
+        heap.addAll(testData);
+
+        for (Integer value : testData) {
+            assertTrue(heap.search(value), "Data missing in Heap");
+        }
+        assertFalse(heap.search(100), "Heap found value which was never added");
+    }
+
+    @Test
+    void randomPushPop() {
+        List<Integer> values = Sequence.getRandIntSeqInRange(0, 5000);
+        for (int arity : new int[]{2, 4, 8}) {
+            for (Type type : Type.values()) {
+                DaryHeap<Integer> heap = new DaryHeap<>(arity, type, 1);
+                PriorityQueue<Integer> model = type == Type.MAX ? new PriorityQueue<>(Collections.reverseOrder()) : new PriorityQueue<>();
+
+                heap.addAll(values.subList(0, 1000).toArray(new Integer[0]));
+                model.addAll(values.subList(0, 1000));
+                for (int i = 1000; i < values.size(); i++) {
+                    heap.add(values.get(i));
+                    model.add(values.get(i));
+                    if (i % 3 == 2) {
+                        assertEquals(model.poll(), heap.remove(), arity + "-ary " + type + " Heap popped value not matching");
+                    }
+                }
+                assertEquals(model.size(), heap.size(), "Heap size not matching after push/pop");
+                while (!model.isEmpty()) {
+                    assertEquals(model.poll(), heap.remove(), arity + "-ary " + type + " Heap popped value not matching");
+                }
+                assertTrue(heap.isEmpty(), "Heap should be empty after removing all the values");
+            }
+        }
+    }
+}
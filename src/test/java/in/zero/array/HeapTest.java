@@ -0,0 +1,128 @@
+package in.zero.array;
+
+import in.zero.Collection;
+import in.zero.IllegalOperationException;
+import in.zero.link.tree.Heap.Type;
+import in.zero.utils.Sequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+    final static Integer[] maxLevelOrderData = {73, 33, 71, 21, 25, 35, 7, 15, 5, 1, 10, 17, 20};
+    final static Integer[] minLevelOrderData = {1, 5, 7, 10, 25, 17, 20, 21, 15, 33, 73, 71, 35};
+
+    @Test
+    void metadata() {
+        Heap<Integer> max = new Heap<>(Type.MAX);
+        Heap<Integer> min = new Heap<>();
+
+        assertTrue(min.isEmpty(), "Heap should be empty at heap creation");
+        assertNull(min.peek(), "Peek must return null for an empty heap");
+        assertNull(min.remove(), "Remove must return null for an empty heap");
+
+        max.addAll(testData);
+        min.addAll(testData);
+
+        assertEquals(testData.length, max.size(), "Value count for max Heap does not matches");
+        assertEquals(testData.length, min.size(), "Value count for min Heap does not matches");
+        assertEquals("MAX", max.heapType(), "Sorting order doesn't match for max Heap");
+        assertEquals("MIN", min.heapType(), "Sorting order doesn't match for min Heap");
+        assertTrue(max instanceof Collection, "Heap is not instance of Collection");
+
+        assertThrows(IllegalArgumentException.class, () -> new Heap<Integer>(0), "Heap allowing non positive capacity");
+        assertThrows(IllegalArgumentException.class, () -> min.add(null), "Heap allowing null values");
+    }
+
+    @Test
+    void levelOrder() {
+        Heap<Integer> max = new Heap<>(Type.MAX, 1);
+        Heap<Integer> min = new Heap<>(Type.MIN, 1);
+        max.addAll(testData);
+        min.addAll(testData);
+
+        assertArrayEquals(maxLevelOrderData, Arrays.copyOf(max.data, max.size()), "max Heap layout must match the linked Heap");
+        assertArrayEquals(minLevelOrderData, Arrays.copyOf(min.data, min.size()), "min Heap layout must match the linked Heap");
+    }
+
+    @Test
+    void searchAndRemove() {
+        Heap<Integer> heap = new Heap<>();
+        heap.addAll(testData);
+
+        assertTrue(Arrays.stream(testData).allMatch(heap::search), "Data missing in Heap");
+        assertFalse(heap.search(100), "Heap found value which was never added");
+        assertThrows(IllegalOperationException.class, () -> heap.remove(10), "Heap allowing to remove specific item");
+
+        Integer[] sorted = Arrays.copyOf(testData, testData.length);
+        Arrays.sort(sorted);
+        for (Integer value : sorted) {
+            assertEquals(value, heap.peek(), "Peek not returning the top of the Heap");
+            assertEquals(value, heap.remove(), "min Heap not popping values in ascending order");
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after removing all the values");
+        assertTrue(Arrays.stream(heap.data).allMatch(elem -> elem == null), "Heap must not hold references to removed values");
+    }
+
+    @Test
+    void randomPushPop() {
+        List<Integer> values = Sequence.getRandIntSeqInRange(0, 5000);
+        Heap<Integer> max = new Heap<>(Type.MAX, 1);
+        PriorityQueue<Integer> model = new PriorityQueue<>(Collections.reverseOrder());
+
+        for (int i = 0; i < values.size(); i++) {
+            max.add(values.get(i));
+            model.add(values.get(i));
+            if (i % 3 == 2) {
+                assertEquals(model.poll(), max.remove(), "max Heap popped value not matching");
+            }
+        }
+        assertEquals(model.size(), max.size(), "Heap size not matching after push/pop");
+        while (!model.isEmpty()) {
+            assertEquals(model.poll(), max.remove(), "max Heap popped value not matching");
+        }
+        assertTrue(max.isEmpty(), "Heap should be empty after removing all the values");
+    }
+
+    @Test
+    void bulkBuild() {
+        List<Integer> values = Sequence.getRandIntSeqInRange(0, 5000);
+        Integer[] sorted = values.stream().sorted().toArray(Integer[]::new);
+
+        Heap<Integer> built = Heap.of(values);
+        Heap<Integer> constructed = new Heap<>(values.toArray(new Integer[0]), Type.MAX);
+        Heap<Integer> mixed = new Heap<>();
+        mixed.addAll(values.subList(0, 100).toArray(new Integer[0]));
+        mixed.addAll(values.subList(100, 150).toArray(new Integer[0]));
+        mixed.addAll(values.subList(150, values.size()).toArray(new Integer[0]));
+
+        assertEquals(values.size(), built.size(), "Heap.of not storing all the values");
+        assertEquals(values.size(), constructed.size(), "Heap constructor not storing all the values");
+        assertEquals(values.size(), mixed.size(), "Repeated addAll not storing all the values");
+
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(sorted[i], built.remove(), "min Heap built by Heap.of not popping in order");
+            assertEquals(sorted[i], mixed.remove(), "min Heap built by addAll not popping in order");
+            assertEquals(sorted[sorted.length - 1 - i], constructed.remove(), "max Heap built by constructor not popping in order");
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new Heap<Integer>().addAll(1, null, 2), "Heap allowing null values");
+
+        Heap<Integer> heap = new Heap<>();
+        heap.add(5);
+        heap.add(6);
+        assertThrows(IllegalArgumentException.class, () -> heap.addAll(1, null, 2), "Heap allowing null values");
+        assertEquals(2, heap.size(), "Rejected batch must not change the Heap");
+        assertTrue(Arrays.stream(heap.data).skip(2).allMatch(elem -> elem == null), "Rejected batch must not be stored in the Heap");
+        assertEquals(5, heap.remove(), "Heap order broken by the rejected batch");
+        assertEquals(6, heap.remove(), "Heap order broken by the rejected batch");
+        assertTrue(heap.isEmpty(), "Heap should be empty after removing all the values");
+    }
+}
@@ -0,0 +1,83 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntQueueTest {
+
+    final static int[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testQueue() {
+        IntQueue queue = new IntQueue(3);
+
+        assertTrue(queue.isEmpty(), "Queue should be empty at Queue creation");
+
+        for (int value : testData) {
+            queue.enqueue(value);
+        }
+
+        assertFalse(queue.isEmpty(), "Queue should not be empty after Queue population");
+        assertEquals(testData.length, queue.size(), "Queue data count not matching");
+        assertEquals(10, queue.peek(), "Peek method does not works for queue");
+        for (int value : testData) {
+            assertEquals(value, queue.dequeue(), "Queue dequeue not working");
+        }
+
+        assertTrue(queue.isEmpty(), "Queue should be empty after queue data removal");
+
+        queue.enqueueAll(1, 2, 3, 4, 5);
+        assertEquals(5, queue.size(), "Enqueue all should add all the 5 elements to the queue");
+
+        int[] drained = new int[3];
+        assertEquals(3, queue.drainTo(drained), "Drain must stop when the array is full");
+        assertArrayEquals(new int[]{1, 2, 3}, drained, "Drained values not matching");
+
+        queue.clear();
+        assertTrue(queue.isEmpty(), "Queue should be empty after clear");
+    }
+
+    @Test
+    void wrapAround() {
+        IntQueue queue = new IntQueue(4);
+        ArrayDeque<Integer> model = new ArrayDeque<>();
+        Random random = new Random(3);
+
+        for (int round = 0; round < 2000; round++) {
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                int[] batch = new int[random.nextInt(10)];
+                for (int i = 0; i < batch.length; i++) {
+                    batch[i] = random.nextInt();
+                    model.add(batch[i]);
+                }
+                queue.enqueueAll(batch);
+            } else if (operation == 1) {
+                int[] target = new int[random.nextInt(10)];
+                int count = queue.drainTo(target);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(model.poll(), target[i], "Drained values not in queue order");
+                }
+            } else {
+                int value = random.nextInt();
+                queue.enqueue(value);
+                model.add(value);
+            }
+            assertEquals(model.size(), queue.size(), "Queue size not matching");
+        }
+    }
+
+    @Test
+    void negativeTests() {
+        IntQueue queue = new IntQueue();
+
+        assertThrows(IllegalOperationException.class, queue::dequeue, "Empty queue must throw exception");
+        assertThrows(IllegalOperationException.class, queue::peek, "Empty queue must throw exception");
+        assertThrows(IllegalArgumentException.class, () -> new IntQueue(0), "Queue allowing non positive capacity");
+    }
+}
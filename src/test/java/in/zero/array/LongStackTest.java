@@ -0,0 +1,50 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongStackTest {
+
+    final static long[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testStackOperations() {
+        LongStack stack = new LongStack(2);
+
+        assertTrue(stack.isEmpty(), "Stack should be empty at stack creation");
+
+        for (long value : testData) {
+            stack.push(value);
+        }
+
+        assertFalse(stack.isEmpty(), "Stack should not be empty after stack population");
+        assertEquals(testData.length, stack.size(), "Stack data count not matching");
+        assertEquals(35, stack.peek(), "Peek method does not works for stack");
+        for (int i = testData.length - 1; i >= 0; i--) {
+            assertEquals(testData[i], stack.pop(), "Stack pop not working");
+        }
+
+        assertTrue(stack.isEmpty(), "Stack should be empty after stack data removal");
+
+        stack.pushAll(testData);
+        assertEquals(testData.length, stack.size(), "Push all should add all the elements to the stack");
+
+        long[] popped = new long[4];
+        assertEquals(4, stack.popInto(popped), "Pop into must stop when the array is full");
+        assertArrayEquals(new long[]{35, 71, 73, 33}, popped, "Pop into not keeping the stack order");
+
+        stack.clear();
+        assertTrue(stack.isEmpty(), "Stack should be empty after clear");
+    }
+
+    @Test
+    void negativeTests() {
+        LongStack stack = new LongStack();
+
+        assertThrows(IllegalOperationException.class, stack::pop, "Empty stack must throw exception");
+        assertThrows(IllegalOperationException.class, stack::peek, "Empty stack must throw exception");
+        assertThrows(IllegalArgumentException.class, () -> new LongStack(0), "Stack allowing non positive capacity");
+    }
+}
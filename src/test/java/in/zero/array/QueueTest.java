@@ -0,0 +1,27 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueTest {
+
+    @Test
+    void fullQueue() {
+        Queue<Integer> queue = new Queue<>(3);
+
+        assertFalse(queue.isFull(), "Empty queue must not be full");
+        queue.enqueue(1);
+        queue.enqueue(2);
+        assertFalse(queue.isFull(), "Queue must not be full before reaching its capacity");
+        queue.enqueue(3);
+        assertTrue(queue.isFull(), "Queue must be full at its capacity");
+        assertThrows(IllegalOperationException.class, () -> queue.enqueue(4), "Full queue must throw exception");
+
+        assertEquals(1, queue.dequeue(), "Queue dequeue not working");
+        assertFalse(queue.isFull(), "Queue must not be full after a dequeue");
+        queue.enqueue(4);
+        assertTrue(queue.isFull(), "Queue must be full after wrapping around to its capacity");
+    }
+}
@@ -0,0 +1,91 @@
+package in.zero.array;
+
+import in.zero.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferQueueTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testQueue() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(3);
+
+        assertTrue(queue.isEmpty(), "Queue should be empty at Queue creation");
+        assertEquals(4, queue.capacity(), "Capacity must be rounded up to a power of two");
+
+        Arrays.stream(testData).forEach(queue::enqueue);
+
+        assertFalse(queue.isEmpty(), "Queue should not be empty after Queue population");
+        assertEquals(testData.length, queue.size(), "Queue data count not matching");
+        assertEquals(16, queue.capacity(), "Queue not growing by doubling");
+
+        assertEquals(10, queue.peek(), "Peek method does not works for queue");
+        Arrays.stream(testData).forEach(elem -> assertEquals(elem, queue.dequeue(), "Queue dequeue not working"));
+
+        assertTrue(queue.isEmpty(), "Queue should be empty after queue data removal");
+
+        queue.enqueueAll(1, 2, 3, 4, 5);
+        assertEquals(5, queue.size(), "Enqueue all should add all the 5 elements to the queue");
+
+        Integer[] drained = new Integer[3];
+        assertEquals(3, queue.drainTo(drained), "Drain must stop when the array is full");
+        assertArrayEquals(new Integer[]{1, 2, 3}, drained, "Drained values not matching");
+        assertEquals(2, queue.drainTo(drained), "Drain must stop when the queue is empty");
+        assertEquals(4, drained[0], "Drained values not matching");
+        assertEquals(5, drained[1], "Drained values not matching");
+        assertTrue(Arrays.stream(queue.data).allMatch(elem -> elem == null), "Queue must not hold references to drained values");
+    }
+
+    @Test
+    void wrapAroundAndShrink() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(8, true);
+        ArrayDeque<Integer> model = new ArrayDeque<>();
+        Random random = new Random(11);
+
+        for (int round = 0; round < 2000; round++) {
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                Integer[] batch = new Integer[random.nextInt(40)];
+                Arrays.setAll(batch, i -> random.nextInt());
+                queue.enqueueAll(batch);
+                model.addAll(Arrays.asList(batch));
+            } else if (operation == 1) {
+                Integer[] target = new Integer[random.nextInt(40)];
+                int count = queue.drainTo(target);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(model.poll(), target[i], "Drained values not in queue order");
+                }
+            } else if (operation == 2 && !model.isEmpty()) {
+                assertEquals(model.poll(), queue.dequeue(), "Dequeued value not in queue order");
+            } else {
+                int value = random.nextInt();
+                queue.enqueue(value);
+                model.add(value);
+            }
+            assertEquals(model.size(), queue.size(), "Queue size not matching");
+            assertEquals(queue.capacity() - queue.size(), Arrays.stream(queue.data).filter(elem -> elem == null).count(),
+                    "Queue must not hold references to removed values");
+            assertTrue(queue.capacity() >= 8, "Queue must not shrink below its initial capacity");
+        }
+        while (!model.isEmpty()) {
+            assertEquals(model.poll(), queue.dequeue(), "Dequeued value not in queue order");
+        }
+        assertEquals(8, queue.capacity(), "Queue must shrink back once drained");
+    }
+
+    @Test
+    void negativeTests() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>();
+
+        assertThrows(IllegalOperationException.class, queue::dequeue, "Empty queue must throw exception");
+        assertThrows(IllegalOperationException.class, queue::peek, "Empty queue must throw exception");
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<Integer>(0), "Queue allowing non positive capacity");
+    }
+}
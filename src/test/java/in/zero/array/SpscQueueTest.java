@@ -0,0 +1,94 @@
+package in.zero.array;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpscQueueTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testQueue() {
+        SpscQueue<Integer> queue = new SpscQueue<>(10);
+
+        assertTrue(queue.isEmpty(), "Queue should be empty at Queue creation");
+        assertEquals(16, queue.capacity(), "Capacity must be rounded up to a power of two");
+        assertNull(queue.poll(), "Poll must return null for an empty queue");
+        assertNull(queue.peek(), "Peek must return null for an empty queue");
+
+        assertEquals(testData.length, queue.offerAll(testData), "Offer all should add all the values");
+        assertEquals(testData.length, queue.size(), "Queue data count not matching");
+        assertEquals(3, queue.offerAll(testData), "Offer all must stop when the queue is full");
+        assertFalse(queue.offer(1), "Offer must fail on a full queue");
+
+        assertEquals(10, queue.peek(), "Peek method does not works for queue");
+        for (Integer value : testData) {
+            assertEquals(value, queue.poll(), "Queue poll not working");
+        }
+
+        Integer[] drained = new Integer[8];
+        assertEquals(3, queue.drainTo(drained), "Drain must stop when the queue is empty");
+        assertArrayEquals(new Integer[]{10, 1, 20}, new Integer[]{drained[0], drained[1], drained[2]}, "Drained values not matching");
+        assertTrue(queue.isEmpty(), "Queue should be empty after queue data removal");
+
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null), "Queue allowing null values");
+        assertThrows(IllegalArgumentException.class, () -> queue.offerAll(1, null, 3), "Queue allowing null values in a batch");
+        assertTrue(queue.isEmpty(), "A batch holding null must not add any value");
+        assertThrows(IllegalArgumentException.class, () -> new SpscQueue<Integer>(0), "Queue allowing non positive capacity");
+    }
+
+    @Test
+    void producerConsumer() throws InterruptedException {
+        final int count = 1_000_000;
+        SpscQueue<Integer> queue = new SpscQueue<>(256);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            Integer[] batch = new Integer[32];
+            int next = 0;
+            while (next < count) {
+                if ((next & 1) == 0) {
+                    int length = Math.min(batch.length, count - next);
+                    for (int i = 0; i < length; i++) {
+                        batch[i] = next + i;
+                    }
+                    next += queue.offerAll(batch, 0, length);
+                } else if (queue.offer(next)) {
+                    next++;
+                }
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            Integer[] batch = new Integer[16];
+            int expected = 0;
+            while (expected < count && failure.get() == null) {
+                if ((expected & 1) == 0) {
+                    int drained = queue.drainTo(batch);
+                    for (int i = 0; i < drained; i++, expected++) {
+                        if (batch[i] != expected) {
+                            failure.set("Expected " + expected + " but was " + batch[i]);
+                        }
+                    }
+                } else {
+                    Integer value = queue.poll();
+                    if (value != null) {
+                        if (value != expected) {
+                            failure.set("Expected " + expected + " but was " + value);
+                        }
+                        expected++;
+                    }
+                }
+            }
+        });
+        producer.start();
+        consumer.start();
+        producer.join(60_000);
+        consumer.join(60_000);
+
+        assertNull(failure.get(), "Values not received in order");
+        assertTrue(queue.isEmpty(), "Queue should be empty after the consumer is done");
+    }
+}
@@ -0,0 +1,236 @@
+package in.zero.array.tree;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Function;
+
+import in.zero.Collection;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class BinaryTreeTest {
+
+    private static BinaryTree<Integer> bt;
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+    final static Integer[] inOrderData = {21, 15, 5, 1, 33, 25, 73, 10, 71, 17, 35, 20, 7};
+    final static Integer[] levelOrderData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+    final static Integer[] preOrderData = {10, 1, 15, 21, 5, 25, 33, 73, 20, 17, 71, 35, 7};
+    final static Integer[] postOrderData = {21, 5, 15, 33, 73, 25, 1, 71, 35, 17, 7, 20, 10};
+    final static Integer[] reverseOrderData = {7, 20, 35, 17, 71, 10, 73, 25, 33, 1, 5, 15, 21};
+
+    @BeforeAll
+    public static void beforeAll() {
+        bt = new BinaryTree<>();
+        bt.addAll(testData);
+    }
+
+    @Test
+    public void metadata() {
+
+        assertEquals(bt.nodesCount, testData.length, "Node count for Binary Tree does not matches");
+        assertEquals(bt.size(), testData.length, "Node count for Binary Tree does not matches");
+        assertEquals(bt.getHeight(), 3, "Binary Tree height doesn't match the expected");
+        assertEquals(-1, new BinaryTree<Integer>().getHeight(), "Empty Binary Tree height must be -1");
+
+        assertTrue(bt instanceof Collection, "Binary Tree is not an instance of Collection");
+        assertTrue(bt instanceof Iterable, "Binary Tree is not an instance of Iterable");
+        assertTrue(bt instanceof ArrayBinaryTreeIterable, "Binary Tree is not an instance of ArrayBinaryTreeIterable");
+        assertThrows(IllegalArgumentException.class, () -> new BinaryTree<Integer>(0), "Binary Tree allowing non positive storage capacity");
+    }
+
+    @Test
+    public void addElements() {
+        BinaryTree<Integer> bt = new BinaryTree<>(1);
+        bt.add(0);
+        bt.addAll(testData);
+        bt.add(19);
+
+        assertSame(bt.add(94), bt, "Add method not returning tree object in Binary Tree");
+        assertSame(bt.addAll(97), bt, "Add All method not returning tree object in Binary Tree");
+        assertEquals(testData.length + 4, bt.size(), "Node count for Binary Tree does not matches");
+        assertEquals(97, bt.valueAt(bt.size()), "Last value of Binary Tree not matching");
+    }
+
+    @Test
+    public void searchElements() {
+        assertTrue(Arrays.stream(testData).allMatch(bt::search), "Data missing in Binary Tree");
+        assertFalse(bt.search(-1), "Binary Tree found a value which was never added");
+        assertEquals(3, bt.searchIndex(15), "Binary Tree search index not matching");
+        assertEquals(-1, bt.searchIndex(null), "Binary Tree search index for null must be -1");
+    }
+
+    @Test
+    public void removeElements() {
+        BinaryTree<Integer> bt = new BinaryTree<>();
+        bt.addAll(testData);
+
+        assertEquals(bt.remove(-20), -20, "Removing non existing data from Binary Tree");
+        assertTrue(Arrays.stream(testData).allMatch(elem -> {
+            Integer data = bt.remove(elem);
+            assertFalse(bt.search(elem), "Searching deleted data in Binary Tree");
+            return data.equals(elem);
+        }), "Deleting all the data from Binary Tree");
+
+        assertEquals(0, bt.nodesCount, "Binary Tree node count must be 0 after deleting all the elements");
+        assertTrue(Arrays.stream(bt.data).allMatch(value -> value == null), "Binary Tree must not hold removed values");
+
+        BinaryTree<Integer> bt1 = new BinaryTree<>();
+        bt1.addAll(testData);
+        assertArrayEquals(new Integer[]{21, 5, 71, 25}, bt1.removeAll(21, 5, 71, 25), "Remove all must return the removed values");
+        assertEquals(bt1.nodesCount, testData.length - 4,
+                "Nodes count not matching after deletion of few values in Binary Tree");
+    }
+
+    @Test
+    public void removeDuplicate() {
+        BinaryTree<Integer> bt = new BinaryTree<>();
+        bt.addAll(0, 1, 7, 7, 2, 3, 4);
+
+        assertEquals(7, bt.remove(7), "Removing duplicate value from Binary Tree");
+        assertTraversal(new Integer[]{0, 1, 4, 7, 2, 3}, bt.levelOrderIterator(), "First copy in level order must be replaced by the last value in Binary Tree");
+    }
+
+    @Test
+    public void removeRoot() {
+        BinaryTree<Integer> bt = new BinaryTree<>();
+        bt.addAll(testData);
+
+        assertEquals(10, bt.remove(10), "Removing root from Binary Tree");
+        assertFalse(bt.search(10), "Searching deleted root in Binary Tree");
+        assertEquals(testData.length - 1, bt.size(), "Removing root must remove only one value from Binary Tree");
+        assertTrue(Arrays.stream(testData).filter(elem -> elem != 10).allMatch(bt::search), "Data missing after root removal in Binary Tree");
+        assertEquals(35, bt.valueAt(1), "Last value must take place of the removed root in Binary Tree");
+    }
+
+    @Test
+    public void completeTree() {
+        BinaryTree<Integer> bt = new BinaryTree<>();
+        Integer[] values = new Integer[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+            bt.add(i);
+        }
+        List<Integer> levelOrder = new ArrayList<>();
+        bt.levelOrderIterator().forEachRemaining(levelOrder::add);
+        assertArrayEquals(values, levelOrder.toArray(), "Binary Tree must stay complete, Level order must follow insertion order");
+        assertEquals(999, bt.valueAt(1_000), "Last value of Binary Tree not matching");
+        assertNull(bt.valueAt(1_001), "Binary Tree value found beyond the last position");
+
+        bt.removeAll(0, 1, 2);
+        assertEquals(997, bt.size(), "Nodes count not matching after deletion of few values in Binary Tree");
+        assertEquals(999, bt.valueAt(1), "Last value must take place of the removed root in Binary Tree");
+        assertEquals(996, bt.valueAt(997), "Last value of Binary Tree not matching after deletion");
+    }
+
+    @Test
+    public void levelOrderTest() {
+        assertTraversal(levelOrderData, bt.levelOrderIterator(), "Binary Tree level order not matching");
+    }
+
+    @Test
+    public void preOrderTest() {
+        assertTraversal(preOrderData, bt.preOrderIterator(), "Binary Tree Pre order not matching");
+    }
+
+    @Test
+    public void postOrderTest() {
+        assertTraversal(postOrderData, bt.postOrderIterator(), "Binary Tree Post order not matching");
+    }
+
+    @Test
+    public void inOrderTest() {
+        assertTraversal(inOrderData, bt.inOrderIterator(), "Binary Tree In order not matching");
+    }
+
+    @Test
+    public void reverseOrderTest() {
+        assertTraversal(reverseOrderData, bt.reverseOrderIterator(), "Binary Tree reverse order not matching");
+    }
+
+    @Test
+    public void iterator() {
+        assertTraversal(inOrderData, bt.iterator(), "Binary Tree iterator data not matching");
+    }
+
+    @Test
+    public void stream() {
+        assertArrayEquals(bt.stream().toArray(), inOrderData,
+                "Stream output doesn't matches with expected in Binary Tree");
+    }
+
+    @Test
+    public void parallelStream() {
+        assertArrayEquals(bt.parallelStream().toArray(), inOrderData,
+                "Parallel stream output doesn't matches with expected in Binary Tree");
+        assertEquals(Arrays.stream(testData).mapToInt(Integer::intValue).sum(), bt.parallelStream().mapToInt(Integer::intValue).sum(),
+                "Parallel stream sum doesn't matches with expected in Binary Tree");
+    }
+
+    @Test
+    public void matchesLinkedTree() {
+        Random random = new Random(17);
+        for (int size = 0; size < 200; size++) {
+            in.zero.link.tree.BinaryTree<Integer> linked = new in.zero.link.tree.BinaryTree<>();
+            BinaryTree<Integer> array = new BinaryTree<>(1);
+            for (int i = 0; i < size; i++) {
+                int value = random.nextInt(size + 1);
+                linked.add(value);
+                array.add(value);
+            }
+            for (int i = 0; i < size / 4; i++) {
+                int value = random.nextInt(size + 1);
+                linked.remove(value);
+                array.remove(value);
+            }
+            assertEquals(linked.size(), array.size(), "Binary Tree size differs from the linked one");
+            assertSameOrder(linked, array, in.zero.link.tree.BinaryTree::levelOrderIterator, BinaryTree::levelOrderIterator);
+            assertSameOrder(linked, array, in.zero.link.tree.BinaryTree::preOrderIterator, BinaryTree::preOrderIterator);
+            assertSameOrder(linked, array, in.zero.link.tree.BinaryTree::inOrderIterator, BinaryTree::inOrderIterator);
+            assertSameOrder(linked, array, in.zero.link.tree.BinaryTree::postOrderIterator, BinaryTree::postOrderIterator);
+            assertSameOrder(linked, array, in.zero.link.tree.BinaryTree::reverseOrderIterator, BinaryTree::reverseOrderIterator);
+            assertArrayEquals(linked.stream().toArray(), array.parallelStream().toArray(), "Binary Tree parallel stream differs from the linked one");
+        }
+    }
+
+    @Test
+    public void iteratorExhaustion() {
+        Iterator<Integer> itr = bt.postOrderIterator();
+        for (int count = 0; count < testData.length; count++) {
+            assertTrue(itr.hasNext(), "Binary Tree iterator exhausted before the last element");
+            itr.next();
+        }
+        assertFalse(itr.hasNext(), "Binary Tree iterator must be exhausted after the last element");
+        assertThrows(NoSuchElementException.class, itr::next, "Exhausted iterator must throw exception");
+
+        assertFalse(new BinaryTree<Integer>().iterator().hasNext(), "Empty Binary Tree iterator must not have elements");
+        assertEquals(0, new BinaryTree<Integer>().stream().count(), "Empty Binary Tree stream must not have elements");
+        assertEquals(inOrderData[0], bt.stream().findFirst().orElse(null), "Binary Tree stream first element not matching");
+    }
+
+    private static void assertTraversal(Integer[] expected, Iterator<Integer> traversal, String message) {
+        List<Integer> actual = new ArrayList<>();
+        traversal.forEachRemaining(actual::add);
+        assertArrayEquals(expected, actual.toArray(), message);
+    }
+
+    private static void assertSameOrder(in.zero.link.tree.BinaryTree<Integer> linked, BinaryTree<Integer> array,
+                                        Function<in.zero.link.tree.BinaryTree<Integer>, Iterator<Integer>> linkedTraversal,
+                                        Function<BinaryTree<Integer>, Iterator<Integer>> arrayTraversal) {
+        List<Integer> expected = new ArrayList<>();
+        linkedTraversal.apply(linked).forEachRemaining(expected::add);
+        assertTraversal(expected.toArray(new Integer[0]), arrayTraversal.apply(array), "Binary Tree traversal differs from the linked one");
+    }
+}
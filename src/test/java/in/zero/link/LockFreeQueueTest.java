@@ -0,0 +1,112 @@
+package in.zero.link;
+
+import in.zero.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockFreeQueueTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testQueue() {
+        LockFreeQueue<Integer> queue = new LockFreeQueue<>();
+
+        assertTrue(queue.isEmpty(), "Queue should be empty at Queue creation");
+
+        Arrays.stream(testData).forEach(queue::enqueue);
+
+        assertFalse(queue.isEmpty(), "Queue should not be empty after Queue population");
+        assertEquals(testData.length, queue.getCount(), "Queue data count not matching");
+        assertEquals(10, queue.peek(), "Peek method does not works for queue");
+        Arrays.stream(testData).forEach(elem -> assertEquals(elem, queue.dequeue(), "Queue dequeue not working"));
+
+        assertTrue(queue.isEmpty(), "Queue should be empty after queue data removal");
+        assertEquals(0, queue.getCount(), "Queue data count must be zero after data removal");
+        assertNull(queue.poll(), "Poll must return null for an empty queue");
+
+        queue.enqueueAll(1, 2, 3, 4, 5);
+        assertEquals(5, queue.getCount(), "Enqueue all should add all the 5 elements to the queue");
+        queue.enqueue(6);
+        for (int i = 1; i <= 6; i++) {
+            assertEquals(i, queue.poll(), "Enqueue all not keeping the order");
+        }
+    }
+
+    @Test
+    void negativeTests() {
+        LockFreeQueue<Integer> queue = new LockFreeQueue<>();
+
+        assertThrows(IllegalOperationException.class, queue::dequeue, "Empty queue must throw exception");
+        assertThrows(IllegalOperationException.class, queue::peek, "Empty queue must throw exception");
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueue(null), "Queue allowing null values");
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueueAll(1, null), "Queue allowing null values");
+        assertTrue(queue.isEmpty(), "Rejected batch must not be enqueued");
+    }
+
+    @Test
+    void multipleProducersAndConsumers() throws InterruptedException {
+        final int producers = 4, consumers = 4, perProducer = 100_000;
+        LockFreeQueue<Integer> queue = new LockFreeQueue<>();
+        boolean[] received = new boolean[producers * perProducer];
+        AtomicReference<String> failure = new AtomicReference<>();
+        AtomicInteger consumed = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; ) {
+                    if (i % 3 == 0 && i + 4 <= perProducer) {
+                        queue.enqueueAll(base + i, base + i + 1, base + i + 2, base + i + 3);
+                        i += 4;
+                    } else {
+                        queue.enqueue(base + i++);
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                int[] lastSeen = new int[producers];
+                Arrays.fill(lastSeen, -1);
+                while (consumed.get() < received.length && failure.get() == null) {
+                    Integer value = queue.poll();
+                    if (value == null) {
+                        continue;
+                    }
+                    consumed.incrementAndGet();
+                    int producer = value / perProducer;
+                    if (value <= lastSeen[producer]) {
+                        failure.set("Values of a producer dequeued out of order: " + lastSeen[producer] + " then " + value);
+                    }
+                    lastSeen[producer] = value;
+                    synchronized (received) {
+                        if (received[value]) {
+                            failure.set("Value dequeued twice: " + value);
+                        }
+                        received[value] = true;
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join(60_000);
+        }
+
+        assertNull(failure.get(), failure.get());
+        for (int i = 0; i < received.length; i++) {
+            assertTrue(received[i], "Value never dequeued: " + i);
+        }
+        assertTrue(queue.isEmpty(), "Queue should be empty after all the values are consumed");
+        assertEquals(0, queue.getCount(), "Queue data count must be zero after all the values are consumed");
+    }
+}
@@ -0,0 +1,107 @@
+package in.zero.link;
+
+import in.zero.IllegalOperationException;
+import in.zero.array.ArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockFreeStackTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testStackOperations() {
+        LockFreeStack<Integer> stack = new LockFreeStack<>();
+
+        assertTrue(stack.isEmpty(), "Stack should be empty at stack creation");
+
+        Arrays.stream(testData).forEach(stack::push);
+
+        assertFalse(stack.isEmpty(), "Stack should not be empty after stack population");
+        assertEquals(testData.length, stack.getCount(), "Stack data count not matching");
+        assertEquals(35, stack.peek(), "Peek method does not works for stack");
+        Arrays.stream(ArrayUtils.reverseCopy(testData, Integer.class)).forEach(elem -> {
+            assertEquals(elem, stack.pop(), "Stack pop not working");
+        });
+
+        assertTrue(stack.isEmpty(), "Stack should be empty after stack data removal");
+        assertEquals(0, stack.getCount(), "Stack data count must be zero after data removal");
+        assertNull(stack.tryPop(), "Try pop must return null for an empty stack");
+
+        stack.push(0);
+        stack.pushAll(1, 2, 3, 4, 5);
+        assertEquals(6, stack.getCount(), "Push all should add all the 5 elements to the stack");
+        for (int i = 5; i >= 0; i--) {
+            assertEquals(i, stack.pop(), "Push all not keeping the order");
+        }
+    }
+
+    @Test
+    void negativeTests() {
+        LockFreeStack<Integer> stack = new LockFreeStack<>();
+
+        assertThrows(IllegalOperationException.class, stack::pop, "Empty stack must throw exception");
+        assertThrows(IllegalOperationException.class, stack::peek, "Empty stack must throw exception");
+        assertThrows(IllegalArgumentException.class, () -> stack.push(null), "Stack allowing null values");
+        assertThrows(IllegalArgumentException.class, () -> new LockFreeStack<Integer>(-1), "Stack allowing negative elimination slots");
+    }
+
+    @Test
+    void concurrentPushAndPop() throws InterruptedException {
+        final int threads = 8, perThread = 50_000;
+        LockFreeStack<Integer> stack = new LockFreeStack<>(4);
+        boolean[] popped = new boolean[threads * perThread];
+        AtomicInteger poppedCount = new AtomicInteger();
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+
+        for (int w = 0; w < threads; w++) {
+            final int base = w * perThread;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (i % 10 == 0 && i + 2 <= perThread) {
+                        stack.pushAll(base + i, base + i + 1);
+                        i++;
+                    } else {
+                        stack.push(base + i);
+                    }
+                    if ((i & 1) == 0) {
+                        take(stack, popped, poppedCount, failure);
+                    }
+                }
+                while (poppedCount.get() < popped.length && failure.get() == null) {
+                    take(stack, popped, poppedCount, failure);
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join(60_000);
+        }
+
+        assertNull(failure.get(), failure.get());
+        assertEquals(popped.length, poppedCount.get(), "Not all the values were popped");
+        assertTrue(stack.isEmpty(), "Stack should be empty after all the values are popped");
+        assertEquals(0, stack.getCount(), "Stack data count must be zero after all the values are popped");
+    }
+
+    private static void take(LockFreeStack<Integer> stack, boolean[] popped, AtomicInteger poppedCount, AtomicReference<String> failure) {
+        Integer value = stack.tryPop();
+        if (value != null) {
+            synchronized (popped) {
+                if (popped[value]) {
+                    failure.set("Value popped twice: " + value);
+                }
+                popped[value] = true;
+            }
+            poppedCount.incrementAndGet();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package in.zero.link;
 import in.zero.IllegalOperationException;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +38,47 @@ class QueueTest {
         assertEquals(5, queue.getCount(), "Enqueue all should add all the 5 elements to the queue");
     }
 
+    @Test
+    void nodePool() {
+        Queue<Integer> queue = Queue.pooled(4);
+
+        Arrays.stream(testData).forEach(queue::enqueue);
+        for (int i = 0; i < 6; i++) queue.dequeue();
+
+        queue.enqueueAll(100, 200, 300);
+        assertEquals(testData.length - 6 + 3, queue.getCount(), "Queue data count not matching");
+        for (int i = 6; i < testData.length; i++) {
+            assertEquals(testData[i], queue.dequeue(), "Queue dequeue not working with node pool");
+        }
+        assertEquals(100, queue.dequeue());
+        assertEquals(200, queue.dequeue());
+        assertEquals(300, queue.dequeue());
+        assertTrue(queue.isEmpty(), "Queue should be empty after queue data removal");
+
+        for (int round = 0; round < 3; round++) {
+            queue.enqueueAll(1, 2, 3, 4, 5, 6);
+            for (int value = 1; value <= 6; value++) {
+                assertEquals(value, queue.dequeue(), "Queue dequeue not working with reused nodes");
+            }
+        }
+        assertThrows(IllegalOperationException.class, queue::dequeue, "Pooled Queue allowing dequeue on empty queue");
+
+        Queue<Object> objects = Queue.pooled(4);
+        Object value = new Object();
+        WeakReference<Object> reference = new WeakReference<>(value);
+        objects.enqueue(value);
+        objects.enqueue(new Object());
+        objects.dequeue();
+        objects.dequeue();
+        value = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get(), "Pooled nodes must not hold on to dequeued values");
+
+        assertThrows(IllegalArgumentException.class, () -> Queue.pooled(-1), "Negative pool capacity must throw exception");
+    }
+
     @Test
     void negativeTests() {
         Queue<Integer> queue = new Queue<>();
@@ -4,6 +4,7 @@ import in.zero.IllegalOperationException;
 import in.zero.array.ArrayUtils;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +39,47 @@ class StackTest {
         assertEquals(5, stack.getCount(), "Push all should add all the 5 elements to the stack");
     }
 
+    @Test
+    void nodePool() {
+        Stack<Integer> stack = Stack.pooled(4);
+
+        Arrays.stream(testData).forEach(stack::push);
+        for (int i = 0; i < 6; i++) stack.pop();
+
+        stack.pushAll(100, 200, 300);
+        assertEquals(testData.length - 6 + 3, stack.getCount(), "Stack data count not matching");
+        assertEquals(300, stack.pop());
+        assertEquals(200, stack.pop());
+        assertEquals(100, stack.pop());
+        for (int i = testData.length - 7; i >= 0; i--) {
+            assertEquals(testData[i], stack.pop(), "Stack pop not working with node pool");
+        }
+        assertTrue(stack.isEmpty(), "Stack should be empty after stack data removal");
+
+        for (int round = 0; round < 3; round++) {
+            stack.pushAll(1, 2, 3, 4, 5, 6);
+            for (int value = 6; value > 0; value--) {
+                assertEquals(value, stack.pop(), "Stack pop not working with reused nodes");
+            }
+        }
+        assertThrows(IllegalOperationException.class, stack::pop, "Pooled Stack allowing pop on empty stack");
+
+        Stack<Object> objects = Stack.pooled(4);
+        Object value = new Object();
+        WeakReference<Object> reference = new WeakReference<>(value);
+        objects.push(value);
+        objects.push(new Object());
+        objects.pop();
+        objects.pop();
+        value = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get(), "Pooled nodes must not hold on to popped values");
+
+        assertThrows(IllegalArgumentException.class, () -> Stack.pooled(-1), "Negative pool capacity must throw exception");
+    }
+
     @Test
     void negativeTests() {
         Stack<Integer> stack = new Stack<>();
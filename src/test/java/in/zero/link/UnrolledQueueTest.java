@@ -0,0 +1,85 @@
+package in.zero.link;
+
+import in.zero.IllegalOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledQueueTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    void testQueueOperations() {
+        UnrolledQueue<Integer> queue = new UnrolledQueue<>(4);
+
+        assertTrue(queue.isEmpty(), "Queue should be empty at Queue creation");
+
+        Arrays.stream(testData).forEach(queue::enqueue);
+
+        assertFalse(queue.isEmpty(), "Queue should not be empty after Queue population");
+        assertEquals(testData.length, queue.getCount(), "Queue data count not matching");
+        assertEquals(10, queue.peek(), "Peek method does not works for queue");
+        Arrays.stream(testData).forEach(elem -> {
+            assertEquals(elem, queue.peek(), "Queue peek not working across segments");
+            assertEquals(elem, queue.dequeue(), "Queue dequeue not working");
+        });
+
+        assertTrue(queue.isEmpty(), "Queue should be empty after queue data removal");
+        assertEquals(0, queue.getCount(), "Queue data count must be zero after data removal");
+
+        queue.enqueue(0);
+        queue.enqueueAll(testData);
+        assertEquals(testData.length + 1, queue.getCount(), "Enqueue all should add all the elements to the queue");
+
+        Integer[] dequeued = new Integer[6];
+        assertEquals(6, queue.dequeueInto(dequeued), "Dequeue into must stop when the array is full");
+        assertArrayEquals(new Integer[]{0, 10, 1, 20, 15, 25}, dequeued, "Dequeue into not keeping the queue order");
+        assertEquals(8, queue.dequeueInto(new Integer[20]), "Dequeue into must stop when the queue is empty");
+        assertTrue(queue.isEmpty(), "Queue should be empty after dequeue into");
+    }
+
+    @Test
+    void randomOperations() {
+        UnrolledQueue<Integer> queue = new UnrolledQueue<>(8);
+        ArrayDeque<Integer> model = new ArrayDeque<>();
+        Random random = new Random(5);
+
+        for (int round = 0; round < 5000; round++) {
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                Integer[] batch = new Integer[random.nextInt(20)];
+                Arrays.setAll(batch, i -> random.nextInt());
+                queue.enqueueAll(batch);
+                model.addAll(Arrays.asList(batch));
+            } else if (operation == 1) {
+                Integer[] target = new Integer[random.nextInt(20)];
+                int count = queue.dequeueInto(target);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(model.poll(), target[i], "Dequeued values not in queue order");
+                }
+            } else if (operation == 2 && !model.isEmpty()) {
+                assertEquals(model.peek(), queue.peek(), "Peeked value not in queue order");
+                assertEquals(model.poll(), queue.dequeue(), "Dequeued value not in queue order");
+            } else {
+                int value = random.nextInt();
+                queue.enqueue(value);
+                model.add(value);
+            }
+            assertEquals(model.size(), queue.getCount(), "Queue size not matching");
+        }
+    }
+
+    @Test
+    void negativeTests() {
+        UnrolledQueue<Integer> queue = new UnrolledQueue<>();
+
+        assertThrows(IllegalOperationException.class, queue::dequeue, "Empty queue must throw exception");
+        assertThrows(IllegalOperationException.class, queue::peek, "Empty queue must throw exception");
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledQueue<Integer>(0), "Queue allowing non positive segment size");
+    }
+}
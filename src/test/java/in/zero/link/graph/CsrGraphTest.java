@@ -0,0 +1,151 @@
+package in.zero.link.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrGraphTest {
+
+    final static int[][] edges = {{1, 2}, {1, 3}, {2, 4}, {2, 3}, {2, 5}, {3, 4}, {3, 5}, {4, 5}, {4, 6}, {4, 7}, {8, 10}, {9, 10}};
+
+    private static UndirectedGraph<Integer> graph() {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        for (int[] edge : edges) {
+            graph.add(edge[0], edge[1]);
+        }
+        return graph;
+    }
+
+    @Test
+    void sameResultsAsMutableGraph() {
+        UndirectedGraph<Integer> graph = graph();
+        CsrGraph<Integer> csr = graph.toCsr();
+
+        assertEquals(10, csr.vertexCount(), "CSR graph vertex count not matching");
+        assertEquals(graph.depthFirstTraversal(), csr.depthFirstTraversal(), "CSR depth first traversal not matching");
+        assertEquals(graph.breadthFirstTraversal(), csr.breadthFirstTraversal(), "CSR breadth first traversal not matching");
+        for (int vertex = 0; vertex <= 11; vertex++) {
+            assertEquals(graph.getNeighbours(vertex), csr.getNeighbours(vertex), "CSR neighbours not matching");
+            assertEquals(graph.depthFirstTraversal(vertex), csr.depthFirstTraversal(vertex), "CSR depth first traversal not matching");
+            assertEquals(graph.breadthFirstTraversal(vertex), csr.breadthFirstTraversal(vertex), "CSR breadth first traversal not matching");
+            for (int dest = 0; dest <= 11; dest++) {
+                assertEquals(graph.shortestPath(vertex, dest), csr.shortestPath(vertex, dest), "CSR shortest paths not matching");
+            }
+        }
+    }
+
+    @Test
+    void shortestPath() {
+        CsrGraph<Integer> csr = graph().toCsr();
+
+        List<List<Integer>> paths = csr.shortestPath(1, 7);
+        assertEquals(2, paths.size(), "Both shortest paths from 1 to 7 expected");
+        assertTrue(paths.containsAll(Arrays.asList(Arrays.asList(1, 2, 4, 7), Arrays.asList(1, 3, 4, 7))), "Shortest paths from 1 to 7 not matching");
+        assertEquals(Collections.singletonList(Collections.singletonList(5)), csr.shortestPath(5, 5), "Path from a vertex to itself must be the vertex");
+        assertTrue(csr.shortestPath(1, 10).isEmpty(), "No path expected between components");
+        assertTrue(csr.shortestPath(1, 42).isEmpty(), "No path expected to an unknown vertex");
+        assertTrue(csr.shortestPath(null, 1).isEmpty(), "No path expected from null");
+    }
+
+    @Test
+    void randomGraphs() {
+        Random random = new Random(3);
+        for (int round = 0; round < 100; round++) {
+            UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+            int vertices = 1 + random.nextInt(200);
+            for (int i = random.nextInt(3 * vertices); i >= 0; i--) {
+                graph.add(random.nextInt(vertices), random.nextInt(vertices));
+            }
+            CsrGraph<Integer> csr = graph.toCsr();
+            int start = random.nextInt(vertices);
+            assertEquals(graph.depthFirstTraversal(start), csr.depthFirstTraversal(start), "CSR depth first traversal not matching");
+            assertEquals(graph.breadthFirstTraversal(start), csr.breadthFirstTraversal(start), "CSR breadth first traversal not matching");
+        }
+    }
+
+    @Test
+    void parallelBreadthFirstTraversal() {
+        Random random = new Random(5);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        for (int round = 0; round < 30; round++) {
+            UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+            int vertices = 1 + random.nextInt(round < 20 ? 300 : 30_000);
+            for (int i = random.nextInt(4 * vertices); i >= 0; i--) {
+                graph.add(random.nextInt(vertices), random.nextInt(vertices));
+            }
+            CsrGraph<Integer> csr = graph.toCsr();
+            List<Integer> expected = csr.breadthFirstTraversal();
+            Integer start = expected.get(random.nextInt(expected.size()));
+            List<Integer> traversal = csr.parallelBreadthFirstTraversal(start, 1);
+
+            assertEquals(new HashSet<>(expected), new HashSet<>(traversal), "Parallel traversal must visit every vertex");
+            assertEquals(expected.size(), traversal.size(), "Parallel traversal must visit every vertex once");
+            Map<Integer, Integer> level = levels(graph, start);
+            for (int i = 1; i < traversal.size() && level.containsKey(traversal.get(i)); i++) {
+                assertTrue(level.get(traversal.get(i - 1)) <= level.get(traversal.get(i)), "Parallel traversal must visit level by level");
+            }
+            assertEquals(level.size(), traversal.stream().limit(level.size()).filter(level::containsKey).count(), "Component of the start must come first");
+            for (int parallelism : new int[]{2, 4, 8}) {
+                assertEquals(traversal, csr.parallelBreadthFirstTraversal(start, parallelism), "Parallel traversal must not depend on parallelism");
+            }
+            assertEquals(traversal, csr.parallelBreadthFirstTraversal(start, pool), "Parallel traversal on a shared pool not matching");
+        }
+        assertFalse(pool.isShutdown(), "Traversal must leave a caller supplied pool running");
+        pool.shutdown();
+
+        CsrGraph<Integer> csr = graph().toCsr();
+        assertTrue(csr.parallelBreadthFirstTraversal(42, 2).isEmpty(), "Traversal from an unknown vertex must be empty");
+        assertTrue(csr.parallelBreadthFirstTraversal(null, 2).isEmpty(), "Traversal from null must be empty");
+        assertThrows(IllegalArgumentException.class, () -> csr.parallelBreadthFirstTraversal(1, 0), "Traversal allowing non positive parallelism");
+        assertThrows(IllegalArgumentException.class, () -> csr.parallelBreadthFirstTraversal(1, (ForkJoinPool) null), "Traversal allowing null pool");
+    }
+
+    private static Map<Integer, Integer> levels(UndirectedGraph<Integer> graph, Integer start) {
+        Map<Integer, Integer> level = new HashMap<>();
+        level.put(start, 0);
+        List<Integer> frontier = Collections.singletonList(start);
+        while (!frontier.isEmpty()) {
+            List<Integer> next = new ArrayList<>();
+            for (Integer node : frontier) {
+                for (Integer n : graph.getNeighbours(node)) {
+                    if (level.putIfAbsent(n, level.get(node) + 1) == null) {
+                        next.add(n);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return level;
+    }
+
+    @Test
+    void snapshotIsImmutable() {
+        UndirectedGraph<Integer> graph = graph();
+        CsrGraph<Integer> csr = graph.toCsr();
+        graph.add(7, 42);
+
+        assertFalse(csr.getNeighbours(7).contains(42), "Changes after the snapshot must not show up in it");
+        assertTrue(csr.getNeighbours(42).isEmpty(), "Vertices added after the snapshot must not show up in it");
+        assertEquals(10, csr.vertexCount(), "CSR graph vertex count must not change");
+    }
+
+    @Test
+    void emptyGraph() {
+        CsrGraph<Integer> csr = new UndirectedGraph<Integer>().toCsr();
+
+        assertEquals(0, csr.vertexCount(), "Empty CSR graph must not have vertices");
+        assertTrue(csr.depthFirstTraversal().isEmpty(), "Empty CSR graph traversal must be empty");
+        assertTrue(csr.breadthFirstTraversal().isEmpty(), "Empty CSR graph traversal must be empty");
+        assertTrue(csr.getNeighbours(1).isEmpty(), "Empty CSR graph must not have neighbours");
+    }
+}
@@ -0,0 +1,191 @@
+package in.zero.link.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UndirectedGraphTest {
+
+    final static int[][] edges = {{1, 2}, {1, 3}, {2, 4}, {2, 3}, {2, 5}, {3, 4}, {3, 5}, {4, 5}, {4, 6}, {4, 7}, {8, 10}, {9, 10}};
+
+    private static UndirectedGraph<Integer> graph() {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        for (int[] edge : edges) {
+            graph.add(edge[0], edge[1]);
+        }
+        return graph;
+    }
+
+    @Test
+    void neighbours() {
+        UndirectedGraph<Integer> graph = graph();
+
+        List<Integer> visited = new ArrayList<>();
+        graph.forEachNeighbour(4, visited::add);
+        assertEquals(graph.getNeighbours(4), visited, "Neighbour action must see the neighbours in order");
+        assertTrue(visited.containsAll(Arrays.asList(2, 3, 5, 6, 7)), "Neighbours of 4 not matching");
+
+        graph.getNeighbours(4).clear();
+        assertEquals(5, graph.getNeighbours(4).size(), "Changing the returned neighbours must not change the graph");
+
+        graph.add(4, 42);
+        assertTrue(graph.getNeighbours(4).contains(42), "Neighbours must include the edges added after a traversal");
+        assertEquals(Collections.singletonList(4), graph.getNeighbours(42), "Neighbours of the new vertex not matching");
+        assertTrue(graph.depthFirstTraversal(1).contains(42), "Traversal must reach the vertices added after a traversal");
+
+        List<Integer> none = new ArrayList<>();
+        graph.forEachNeighbour(99, none::add);
+        graph.forEachNeighbour(null, none::add);
+        assertTrue(none.isEmpty(), "Unknown vertex must not have neighbours");
+        assertThrows(IllegalArgumentException.class, () -> graph.forEachNeighbour(1, null), "Neighbour action must not be null");
+    }
+
+    @Test
+    void neighbourOrder() {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        graph.add(1, 500);
+        graph.add(1, 3);
+        graph.add(4, 1);
+        graph.add(1, 3);
+        graph.add(1, 1);
+
+        assertEquals(Arrays.asList(500, 3, 4, 1), graph.getNeighbours(1), "Neighbours must follow the order their edges were added");
+    }
+
+    @Test
+    void concurrentReads() throws InterruptedException {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 4000; i++) {
+            graph.add(random.nextInt(2000), random.nextInt(2000));
+        }
+        List<Integer> depth = graph.depthFirstTraversal(0), breadth = graph.breadthFirstTraversal(0);
+
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                try {
+                    for (int round = 0; round < 20; round++) {
+                        assertEquals(depth, graph.depthFirstTraversal(0), "Concurrent depth first traversal not matching");
+                        assertEquals(breadth, graph.breadthFirstTraversal(0), "Concurrent breadth first traversal not matching");
+                    }
+                } catch (Throwable failure) {
+                    failures.add(failure);
+                }
+            });
+            readers[t].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertTrue(failures.isEmpty(), "Concurrent reads must not disturb each other");
+    }
+
+    @Test
+    void edgeEquality() {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        graph.add(1000, 2000);
+        graph.add(1000, 2000);
+        graph.add(2000, 1000);
+        graph.add(3000, 3000);
+        graph.add(3000, 3000);
+
+        assertEquals(Collections.singletonList(2000), graph.getNeighbours(1000), "Equal edges must be added once");
+        assertEquals(Collections.singletonList(1000), graph.getNeighbours(2000), "Equal edges must be added once");
+        assertEquals(Collections.singletonList(3000), graph.getNeighbours(3000), "Self loop must be added once");
+
+        Edge<Integer> edge = new Edge<>(1000, 2000), reverse = new Edge<>(2000, 1000);
+        assertEquals(edge, reverse, "Edge must equal its reverse");
+        assertEquals(edge.hashCode(), reverse.hashCode(), "Edge hash must not depend on the direction");
+        assertNotEquals(edge, new Edge<>(1000, 3000), "Edges to different vertices must not be equal");
+        assertNotEquals(edge, null, "Edge must not equal null");
+        assertNotEquals(new Edge<>(10000, 7).hashCode(), new Edge<>(20000, 7).hashCode(), "Edge hash must use all the bits of the vertices");
+    }
+
+    @Test
+    void shortestPath() {
+        UndirectedGraph<Integer> graph = graph();
+
+        for (boolean bidirectional : new boolean[]{false, true}) {
+            List<List<Integer>> paths = graph.shortestPath(1, 7, bidirectional);
+            assertEquals(2, paths.size(), "Both shortest paths from 1 to 7 expected");
+            assertTrue(paths.containsAll(Arrays.asList(Arrays.asList(1, 2, 4, 7), Arrays.asList(1, 3, 4, 7))), "Shortest paths from 1 to 7 not matching");
+            assertEquals(Collections.singletonList(Arrays.asList(6, 4)), graph.shortestPath(6, 4, bidirectional), "Shortest path between neighbours not matching");
+            assertEquals(Collections.singletonList(Collections.singletonList(5)), graph.shortestPath(5, 5, bidirectional), "Path from a vertex to itself must be the vertex");
+            assertTrue(graph.shortestPath(1, 10, bidirectional).isEmpty(), "No path expected between components");
+            assertTrue(graph.shortestPath(1, 42, bidirectional).isEmpty(), "No path expected to an unknown vertex");
+            assertTrue(graph.shortestPath(null, 1, bidirectional).isEmpty(), "No path expected from null");
+        }
+    }
+
+    @Test
+    void shortestPathAcrossShortcuts() {
+        // binary tree over 1 ... 199 with two chains of shortcuts, the graph UndirectedGraph.main prints
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        for (int i = 1; i < 100; i++) {
+            graph.add(i, 2 * i);
+            graph.add(i, 2 * i + 1);
+        }
+        graph.add(100, 200);
+        graph.add(1, 200);
+        for (int i = 200; i < 1000; i += 100) {
+            graph.add(i, i + 100);
+        }
+        graph.add(1000, 1);
+        graph.add(1, 100);
+        graph.add(50, 150);
+        for (int i = 150; i < 950; i += 100) {
+            graph.add(i, i + 100);
+        }
+
+        for (boolean bidirectional : new boolean[]{false, true}) {
+            assertEquals(Collections.singletonList(Arrays.asList(4, 2, 1, 1000)), graph.shortestPath(4, 1000, bidirectional), "Shortest path through the ring not matching");
+
+            List<List<Integer>> paths = graph.shortestPath(12, 200, bidirectional);
+            assertEquals(2, paths.size(), "Both shortest paths from 12 to 200 expected");
+            assertTrue(paths.containsAll(Arrays.asList(Arrays.asList(12, 6, 3, 1, 200), Arrays.asList(12, 25, 50, 100, 200))), "Shortest paths from 12 to 200 not matching");
+
+            paths = graph.shortestPath(4, 950, bidirectional);
+            List<Integer> chain = Arrays.asList(150, 250, 350, 450, 550, 650, 750, 850, 950);
+            List<List<Integer>> heads = new ArrayList<>();
+            assertEquals(2, paths.size(), "Both shortest paths from 4 to 950 expected");
+            for (List<Integer> path : paths) {
+                assertEquals(14, path.size(), "Shortest path from 4 to 950 must take 13 edges");
+                assertEquals(chain, path.subList(5, 14), "Shortest paths from 4 to 950 must end along the shortcut chain");
+                heads.add(path.subList(0, 5));
+            }
+            assertTrue(heads.containsAll(Arrays.asList(Arrays.asList(4, 2, 1, 100, 50), Arrays.asList(4, 9, 18, 37, 75))), "Shortest paths from 4 to 950 not matching");
+        }
+    }
+
+    @Test
+    void shortestPathMatchesAllPaths() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+            int vertices = 1 + random.nextInt(12);
+            for (int i = random.nextInt(2 * vertices); i >= 0; i--) {
+                graph.add(random.nextInt(vertices), random.nextInt(vertices));
+            }
+            int src = random.nextInt(vertices), dest = random.nextInt(vertices);
+            List<List<Integer>> expected = new ArrayList<>();
+            for (List<Integer> path : graph.findPathRecr(src, dest)) {
+                if (!expected.isEmpty() && path.size() < expected.get(0).size()) {
+                    expected.clear();
+                }
+                if (expected.isEmpty() || path.size() == expected.get(0).size()) {
+                    expected.add(path);
+                }
+            }
+            assertEquals(expected, graph.shortestPath(src, dest), "Shortest paths differ from the shortest of all paths");
+            assertEquals(expected, graph.shortestPath(src, dest, true), "Bidirectional shortest paths differ from the shortest of all paths");
+        }
+    }
+}
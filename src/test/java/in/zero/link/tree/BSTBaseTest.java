@@ -8,6 +8,8 @@ import in.zero.link.tree.LinkBinaryTreeIterable;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -155,4 +157,33 @@ public abstract class BSTBaseTest {
         assertArrayEquals(desc.stream().toArray(), descSortedOrderData,
                 "Stream output doesn't matches with expected in DESC " + this.getClass().getSimpleName());
     }
+
+    @Test
+    public void parallelStream() {
+        assertArrayEquals(asc.parallelStream().toArray(), ascSortedOrderData,
+                "Parallel stream output doesn't matches with expected in ASC " + this.getClass().getSimpleName());
+
+        assertArrayEquals(desc.parallelStream().toArray(), descSortedOrderData,
+                "Parallel stream output doesn't matches with expected in DESC " + this.getClass().getSimpleName());
+
+        assertEquals(asc.stream().collect(Collectors.toList()), asc.parallelStream().collect(Collectors.toList()),
+                "Parallel and sequential streams must give same result in " + this.getClass().getSimpleName());
+    }
+
+    @Test
+    public void spliterator() {
+        Spliterator<Integer> ascSpliterator = asc.spliterator();
+        Spliterator<Integer> descSpliterator = desc.spliterator();
+
+        assertEquals(testData.length, ascSpliterator.getExactSizeIfKnown(), "Spliterator size not matching in " + this.getClass().getSimpleName());
+        assertTrue(ascSpliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.ORDERED),
+                "Spliterator must be SORTED, DISTINCT and ORDERED in " + this.getClass().getSimpleName());
+        assertNull(ascSpliterator.getComparator(), "ASC " + this.getClass().getSimpleName() + " must be sorted in natural order");
+        assertTrue(descSpliterator.getComparator().compare(1, 2) > 0, "DESC " + this.getClass().getSimpleName() + " must be sorted in reverse order");
+
+        Spliterator<Integer> prefix = ascSpliterator.trySplit();
+        assertNotNull(prefix, "Spliterator must split in " + this.getClass().getSimpleName());
+        assertEquals(testData.length, prefix.estimateSize() + ascSpliterator.estimateSize(),
+                "Split spliterators must share the size in " + this.getClass().getSimpleName());
+    }
 }
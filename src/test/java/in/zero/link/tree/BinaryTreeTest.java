@@ -6,10 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import in.zero.Collection;
 import in.zero.link.tree.BinaryTree;
@@ -96,6 +100,48 @@ public class BinaryTreeTest {
 
     }
 
+    @Test
+    public void removeDuplicate() {
+        BinaryTree<Integer> bt = new BinaryTree<>();
+        bt.addAll(0, 1, 7, 7, 2, 3, 4);
+
+        assertEquals(7, bt.remove(7), "Removing duplicate value from Binary Tree");
+        List<Integer> levelOrder = new ArrayList<>();
+        bt.levelOrderIterator().forEachRemaining(levelOrder::add);
+        assertEquals(Arrays.asList(0, 1, 4, 7, 2, 3), levelOrder, "First copy in level order must be replaced by the last value in Binary Tree");
+    }
+
+    @Test
+    public void removeRoot() {
+        BinaryTree<Integer> bt = new BinaryTree<>();
+        bt.addAll(testData);
+
+        assertEquals(10, bt.remove(10), "Removing root from Binary Tree");
+        assertFalse(bt.search(10), "Searching deleted root in Binary Tree");
+        assertEquals(testData.length - 1, bt.size(), "Removing root must remove only one value from Binary Tree");
+        assertTrue(Arrays.stream(testData).filter(elem -> elem != 10).allMatch(bt::search), "Data missing after root removal in Binary Tree");
+        assertEquals(35, bt.root.data, "Last node must take place of the removed root in Binary Tree");
+    }
+
+    @Test
+    public void completeTree() {
+        BinaryTree<Integer> bt = new BinaryTree<>();
+        Integer[] values = new Integer[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+            bt.add(i);
+        }
+        assertArrayEquals(values, Arrays.stream(bt.levelOrder(bt.root)).map(node -> node.data).toArray(),
+                "Binary Tree must stay complete, Level order must follow insertion order");
+        assertEquals(999, bt.nodeAt(1_000).data, "Last node of Binary Tree not matching");
+        assertNull(bt.nodeAt(1_001), "Binary Tree node found beyond the last position");
+
+        bt.removeAll(0, 1, 2);
+        assertEquals(997, bt.size(), "Nodes count not matching after deletion of few values in Binary Tree");
+        assertEquals(999, bt.root.data, "Last node must take place of the removed root in Binary Tree");
+        assertEquals(996, bt.nodeAt(997).data, "Last node of Binary Tree not matching after deletion");
+    }
+
     @Test
     public void levelOrderTest() {
         Iterator<Integer> levelOrder = bt.levelOrderIterator();
@@ -155,4 +201,26 @@ public class BinaryTreeTest {
         assertArrayEquals(bt.stream().toArray(), inOrderData,
                 "Stream output doesn't matches with expected in Binary Tree");
     }
+
+    @Test
+    public void parallelStream() {
+        assertArrayEquals(bt.parallelStream().toArray(), inOrderData,
+                "Parallel stream output doesn't matches with expected in Binary Tree");
+        assertEquals(Arrays.stream(testData).mapToInt(Integer::intValue).sum(), bt.parallelStream().mapToInt(Integer::intValue).sum(),
+                "Parallel stream sum doesn't matches with expected in Binary Tree");
+    }
+
+    @Test
+    public void iteratorExhaustion() {
+        Iterator<Integer> itr = bt.postOrderIterator();
+        for (int count = 0; count < testData.length; count++) {
+            assertTrue(itr.hasNext(), "Binary Tree iterator exhausted before the last element");
+            itr.next();
+        }
+        assertFalse(itr.hasNext(), "Binary Tree iterator must be exhausted after the last element");
+        assertThrows(NoSuchElementException.class, itr::next, "Exhausted iterator must throw exception");
+
+        assertFalse(new BinaryTree<Integer>().iterator().hasNext(), "Empty Binary Tree iterator must not have elements");
+        assertEquals(inOrderData[0], bt.stream().findFirst().orElse(null), "Binary Tree stream first element not matching");
+    }
 }
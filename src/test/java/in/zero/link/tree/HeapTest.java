@@ -2,18 +2,25 @@ package in.zero.link.tree;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
 import in.zero.Collection;
+import in.zero.IllegalOperationException;
 import in.zero.link.tree.BinaryTree;
 import in.zero.link.tree.Heap;
 import in.zero.link.tree.LinkBinaryTreeIterable;
+import in.zero.utils.Sequence;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -23,16 +30,16 @@ public class HeapTest {
     private static Heap<Integer> min;
 
     final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
-    final static Integer[] maxLevelOrderData = {73, 33, 71, 20, 25, 35, 7, 1, 5, 15, 21, 10, 17};
-    final static Integer[] minLevelOrderData = {1, 5, 7, 10, 25, 20, 17, 21, 15, 33, 73, 71, 35};
-    final static Integer[] maxPreOrderData = {73, 33, 20, 1, 5, 25, 15, 21, 71, 35, 10, 17, 7};
-    final static Integer[] minPreOrderData = {1, 5, 10, 21, 15, 25, 33, 73, 7, 20, 71, 35, 17};
-    final static Integer[] maxPostOrderData = {1, 5, 20, 15, 21, 25, 33, 10, 17, 35, 7, 71, 73};
-    final static Integer[] minPostOrderData = {21, 15, 10, 33, 73, 25, 5, 71, 35, 20, 17, 7, 1};
-    final static Integer[] maxInOrderData = {1, 20, 5, 33, 15, 25, 21, 73, 10, 35, 17, 71, 7};
-    final static Integer[] minInOrderData = {21, 10, 15, 5, 33, 25, 73, 1, 71, 20, 35, 7, 17};
-    final static Integer[] maxReverseOrderData = {7, 71, 17, 35, 10, 73, 21, 25, 15, 33, 5, 20, 1};
-    final static Integer[] minReverseOrderData = {17, 7, 35, 20, 71, 1, 73, 25, 33, 5, 15, 10, 21};
+    final static Integer[] maxLevelOrderData = {73, 33, 71, 21, 25, 35, 7, 15, 5, 1, 10, 17, 20};
+    final static Integer[] minLevelOrderData = {1, 5, 7, 10, 25, 17, 20, 21, 15, 33, 73, 71, 35};
+    final static Integer[] maxPreOrderData = {73, 33, 21, 15, 5, 25, 1, 10, 71, 35, 17, 20, 7};
+    final static Integer[] minPreOrderData = {1, 5, 10, 21, 15, 25, 33, 73, 7, 17, 71, 35, 20};
+    final static Integer[] maxPostOrderData = {15, 5, 21, 1, 10, 25, 33, 17, 20, 35, 7, 71, 73};
+    final static Integer[] minPostOrderData = {21, 15, 10, 33, 73, 25, 5, 71, 35, 17, 20, 7, 1};
+    final static Integer[] maxInOrderData = {15, 21, 5, 33, 1, 25, 10, 73, 17, 35, 20, 71, 7};
+    final static Integer[] minInOrderData = {21, 10, 15, 5, 33, 25, 73, 1, 71, 17, 35, 7, 20};
+    final static Integer[] maxReverseOrderData = {7, 71, 20, 35, 17, 73, 10, 25, 1, 33, 5, 21, 15};
+    final static Integer[] minReverseOrderData = {20, 7, 35, 17, 71, 1, 73, 25, 33, 5, 15, 10, 21};
 
     @BeforeAll
     public static void beforeAll() {
@@ -195,4 +202,76 @@ public class HeapTest {
                 "Stream output doesn't matches with expected in min Heap");
     }
 
+    @Test
+    public void bulkBuild() {
+        final List<Integer> values = Sequence.getRandIntSeqInRange(0, 5000);
+        final Integer[] sorted = values.stream().sorted().toArray(Integer[]::new);
+
+        Heap<Integer> built = Heap.of(values);
+        assertEquals(values.size(), built.size(), "Heap.of not storing all the values");
+        assertEquals(12, built.getHeight(), "Heap.of not building a complete tree");
+
+        Heap<Integer> constructed = new Heap<>(values.toArray(new Integer[0]), Heap.Type.MAX);
+        assertEquals("MAX", constructed.heapType(), "Sorting order doesn't match for constructed Heap");
+
+        Heap<Integer> mixed = new Heap<>();
+        mixed.addAll(values.subList(0, 100).toArray(new Integer[0]));
+        mixed.addAll(values.subList(100, 150).toArray(new Integer[0]));
+        mixed.addAll(values.subList(150, values.size()).toArray(new Integer[0]));
+        assertEquals(values.size(), mixed.size(), "Repeated addAll not storing all the values");
+
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(sorted[i], built.remove(), "min Heap built by Heap.of not popping in order");
+            assertEquals(sorted[i], mixed.remove(), "min Heap built by addAll not popping in order");
+            assertEquals(sorted[sorted.length - 1 - i], constructed.remove(), "max Heap built by constructor not popping in order");
+        }
+        assertEquals(0, built.size(), "Heap must be empty after popping all the values");
+
+        assertThrows(IllegalArgumentException.class, () -> new Heap<Integer>().addAll(1, null, 2), "Heap allowing null values");
+    }
+
+    @Test
+    public void handles() {
+        final List<Integer> values = Sequence.getRandIntSeqInRange(0, 2000);
+        Heap<Integer> heap = new Heap<>();
+        List<Heap.Handle<Integer>> handles = new ArrayList<>();
+        List<Integer> model = new ArrayList<>();
+
+        for (Integer value : values) {
+            handles.add(heap.insert(value * 10));
+        }
+        for (int i = 0; i < handles.size(); i += 3) {
+            heap.decreaseKey(handles.get(i), handles.get(i).get() - 5);
+        }
+        for (int i = 1; i < handles.size(); i += 7) {
+            heap.increaseKey(handles.get(i), handles.get(i).get() + 5);
+        }
+        for (int i = 2; i < handles.size(); i += 5) {
+            Heap.Handle<Integer> handle = handles.get(i);
+            Integer value = handle.get();
+            assertEquals(value, heap.delete(handle), "Delete not returning the value behind the handle");
+            assertFalse(handle.isValid(), "Handle must not be valid after delete");
+            assertNull(handle.get(), "Deleted handle must not hold a value");
+        }
+        for (Heap.Handle<Integer> handle : handles) {
+            if (handle.isValid()) {
+                model.add(handle.get());
+            }
+        }
+        Collections.sort(model);
+        assertEquals(model.size(), heap.size(), "Heap size not matching after handle operations");
+
+        Heap.Handle<Integer> top = handles.stream().filter(Heap.Handle::isValid)
+                .min(Comparator.comparing(Heap.Handle::get)).get();
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(top, top.get() + 1), "Decrease key allowing greater value");
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(top, top.get() - 1), "Increase key allowing smaller value");
+        assertThrows(IllegalOperationException.class, () -> new Heap<Integer>().delete(top), "Heap accepting handle of another heap");
+
+        for (Integer value : model) {
+            assertEquals(value, heap.remove(), "Heap not popping in order after handle operations");
+        }
+        assertFalse(top.isValid(), "Handle must not be valid after its value is popped");
+        assertThrows(IllegalOperationException.class, () -> heap.delete(top), "Heap accepting stale handle");
+        assertThrows(IllegalOperationException.class, () -> heap.update(top, 1), "Heap accepting stale handle");
+    }
 }
@@ -0,0 +1,130 @@
+package in.zero.link.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import in.zero.Collection;
+import in.zero.IllegalOperationException;
+import in.zero.utils.Sequence;
+import org.junit.jupiter.api.Test;
+
+public class PairingHeapTest {
+
+    final static Integer[] testData = {10, 1, 20, 15, 25, 17, 7, 21, 5, 33, 73, 71, 35};
+
+    @Test
+    public void metadata() {
+        PairingHeap<Integer> max = new PairingHeap<>(Heap.Type.MAX);
+        PairingHeap<Integer> min = new PairingHeap<>();
+
+        assertTrue(min.isEmpty(), "Heap should be empty at heap creation");
+        assertNull(min.peek(), "Peek must return null for an empty heap");
+        assertNull(min.remove(), "Remove must return null for an empty heap");
+
+        assertSame(max, max.addAll(testData), "Add All method not returning heap object");
+        assertSame(min, min.add(10), "Add method not returning heap object");
+
+        assertEquals(testData.length, max.size(), "Value count for max Heap does not matches");
+        assertEquals("MAX", max.heapType(), "Sorting order doesn't match for max Heap");
+        assertEquals("MIN", min.heapType(), "Sorting order doesn't match for min Heap");
+        assertEquals(73, max.peek(), "Peek not returning the top of the Heap");
+        assertTrue(max instanceof Collection, "Heap is not instance of Collection");
+
+        assertThrows(IllegalArgumentException.class, () -> min.add(null), "Heap allowing null values");
+        assertThrows(IllegalOperationException.class, () -> min.remove(10), "Heap allowing to remove specific item");
+    }
+
+    @Test
+    public void searchAndRemove() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        heap.addAll(testData);
+
+        assertTrue(Arrays.stream(testData).allMatch(heap::search), "Data missing in Heap");
+        assertFalse(heap.search(100), "Heap found value which was never added");
+
+        Integer[] sorted = Arrays.copyOf(testData, testData.length);
+        Arrays.sort(sorted);
+        for (Integer value : sorted) {
+            assertEquals(value, heap.remove(), "min Heap not popping values in ascending order");
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after removing all the values");
+    }
+
+    @Test
+    public void meld() {
+        List<Integer> values = Sequence.getRandIntSeqInRange(0, 3000);
+        List<PairingHeap<Integer>> workers = new ArrayList<>();
+        List<PairingHeap.Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            workers.add(new PairingHeap<>());
+        }
+        for (int i = 0; i < values.size(); i++) {
+            handles.add(workers.get(i % 4).insert(values.get(i)));
+        }
+
+        PairingHeap<Integer> global = new PairingHeap<>();
+        for (PairingHeap<Integer> worker : workers) {
+            assertSame(global, global.meld(worker), "Meld not returning heap object");
+            assertTrue(worker.isEmpty(), "Melded heap must be left empty");
+        }
+        assertEquals(values.size(), global.size(), "Melded heap size not matching");
+
+        PairingHeap.Handle<Integer> handle = handles.get(0);
+        assertThrows(IllegalOperationException.class, () -> workers.get(0).delete(handle), "Handle still bound to the melded heap");
+        global.decreaseKey(handle, -1);
+        assertEquals(-1, global.peek(), "Handle not usable after meld");
+
+        assertThrows(IllegalArgumentException.class, () -> global.meld(global), "Heap allowing meld with itself");
+        assertThrows(IllegalArgumentException.class, () -> global.meld(new PairingHeap<>(Heap.Type.MAX)), "Heap allowing meld of different types");
+    }
+
+    @Test
+    public void handles() {
+        List<Integer> values = Sequence.getRandIntSeqInRange(0, 2000);
+        PairingHeap<Integer> heap = new PairingHeap<>(Heap.Type.MAX);
+        List<PairingHeap.Handle<Integer>> handles = new ArrayList<>();
+        List<Integer> model = new ArrayList<>();
+
+        for (Integer value : values) {
+            handles.add(heap.insert(value * 10));
+        }
+        for (int i = 0; i < handles.size(); i += 3) {
+            heap.decreaseKey(handles.get(i), handles.get(i).get() - 5);
+        }
+        for (int i = 1; i < handles.size(); i += 7) {
+            heap.increaseKey(handles.get(i), handles.get(i).get() + 5);
+        }
+        for (int i = 2; i < handles.size(); i += 5) {
+            PairingHeap.Handle<Integer> handle = handles.get(i);
+            Integer value = handle.get();
+            assertEquals(value, heap.delete(handle), "Delete not returning the value behind the handle");
+            assertFalse(handle.isValid(), "Handle must not be valid after delete");
+        }
+        for (PairingHeap.Handle<Integer> handle : handles) {
+            if (handle.isValid()) {
+                model.add(handle.get());
+            }
+        }
+        model.sort(Collections.reverseOrder());
+        assertEquals(model.size(), heap.size(), "Heap size not matching after handle operations");
+
+        PairingHeap.Handle<Integer> any = handles.get(0);
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(any, any.get() + 1), "Decrease key allowing greater value");
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(any, any.get() - 1), "Increase key allowing smaller value");
+
+        for (Integer value : model) {
+            assertEquals(value, heap.remove(), "Heap not popping in order after handle operations");
+        }
+        assertFalse(any.isValid(), "Handle must not be valid after its value is popped");
+        assertThrows(IllegalOperationException.class, () -> heap.delete(any), "Heap accepting stale handle");
+    }
+}